@@ -0,0 +1,112 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import com.Zaseth.ConcurrentAppendBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+Producers appending small records while one consumer drains them, through ConcurrentAppendBuffer and
+through a ByteArrayJava guarded by one monitor. Failed appends on a full buffer count as operations too,
+compare the appended bytes/sec. Raise the producer count with -tg 1,1,8,1 or similar
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppendBenchmark {
+    
+    private static final int CAPACITY = 1 << 20;
+    private static final int RECORD = 24;
+    
+    private ConcurrentAppendBuffer buffer;
+    
+    private final Object lock = new Object();
+    private ByteArrayJava locked;
+    
+    @Setup
+    public void setup() {
+        this.buffer = new ConcurrentAppendBuffer(CAPACITY);
+        this.locked = new ByteArrayJava(CAPACITY);
+    }
+    
+    @Benchmark
+    @Group("lockFree")
+    @GroupThreads(3)
+    public boolean lockFreeAppend(ByteCounter counter) {
+        ByteArrayJava region = this.buffer.reserve(RECORD);
+        if (region == null) {
+            Thread.yield();
+            return false;
+        }
+        region.writeInt64(0x0123456789abcdefL);
+        region.writeVarInt64(300);
+        region.writeInt32(42);
+        this.buffer.commit(region);
+        counter.add(RECORD);
+        return true;
+    }
+    
+    @Benchmark
+    @Group("lockFree")
+    @GroupThreads(1)
+    public long lockFreeDrain() {
+        long sum = 0;
+        ByteArrayJava record;
+        while ((record = this.buffer.poll()) != null) {
+            sum += record.readInt64();
+        }
+        return sum;
+    }
+    
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(3)
+    public boolean lockedAppend(ByteCounter counter) {
+        synchronized (this.lock) {
+            ByteArrayJava buffer = this.locked;
+            if (CAPACITY - buffer.getPosition() < RECORD + 4) {
+                return false;
+            }
+            buffer.writeInt32(RECORD);
+            buffer.writeInt64(0x0123456789abcdefL);
+            buffer.writeVarInt64(300);
+            buffer.writeInt32(42);
+            buffer.moveRight(RECORD - 14);
+        }
+        counter.add(RECORD);
+        return true;
+    }
+    
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public long lockedDrain() {
+        long sum = 0;
+        synchronized (this.lock) {
+            ByteArrayJava buffer = this.locked;
+            int end = buffer.getPosition();
+            buffer.setPosition(0);
+            while (buffer.getPosition() < end) {
+                int length = buffer.readInt32();
+                sum += buffer.readInt64();
+                buffer.moveRight(length - 8);
+            }
+            buffer.setPosition(0);
+        }
+        return sum;
+    }
+}
\ No newline at end of file
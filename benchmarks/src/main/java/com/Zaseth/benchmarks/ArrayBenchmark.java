@@ -0,0 +1,203 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+Batch array encoders against the same values written one call at a time
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayBenchmark {
+    
+    @Param({"BIG", "LITTLE"})
+    public String endian;
+    
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    
+    private int[] intTarget;
+    private long[] longTarget;
+    private double[] doubleTarget;
+    
+    private ByteArrayJava output;
+    private ByteArrayJava intInput;
+    private ByteArrayJava longInput;
+    private ByteArrayJava doubleInput;
+    
+    @Setup
+    public void setup() {
+        this.ints = Values.ints("FULL", Values.BATCH);
+        this.longs = Values.longs("FULL", Values.BATCH);
+        this.doubles = new double[Values.BATCH];
+        for (int i = 0; i < Values.BATCH; i++) {
+            this.doubles[i] = this.longs[i] / 3.0;
+        }
+        this.intTarget = new int[Values.BATCH];
+        this.longTarget = new long[Values.BATCH];
+        this.doubleTarget = new double[Values.BATCH];
+        this.output = this.newBuffer();
+        this.intInput = this.newBuffer();
+        this.intInput.writeInt32Array(this.ints, 0, Values.BATCH);
+        this.longInput = this.newBuffer();
+        this.longInput.writeInt64Array(this.longs, 0, Values.BATCH);
+        this.doubleInput = this.newBuffer();
+        this.doubleInput.writeDoubleArray(this.doubles, 0, Values.BATCH);
+    }
+    
+    private ByteArrayJava newBuffer() {
+        ByteArrayJava buffer = new ByteArrayJava(Values.BATCH * 8);
+        buffer.setEndian(Values.bigEndian(this.endian));
+        return buffer;
+    }
+    
+    private ByteArrayJava output() {
+        this.output.setPosition(0);
+        return this.output;
+    }
+    
+    private static ByteArrayJava input(ByteArrayJava buffer) {
+        buffer.setPosition(0);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt32Loop(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.ints;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt32(values[i]);
+        }
+        counter.add(Values.BATCH * 4);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt32Array(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        buffer.writeInt32Array(this.ints, 0, Values.BATCH);
+        counter.add(Values.BATCH * 4);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt64Loop(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.longs;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt64(values[i]);
+        }
+        counter.add(Values.BATCH * 8);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt64Array(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        buffer.writeInt64Array(this.longs, 0, Values.BATCH);
+        counter.add(Values.BATCH * 8);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeDoubleLoop(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        double[] values = this.doubles;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeDouble(values[i]);
+        }
+        counter.add(Values.BATCH * 8);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeDoubleArray(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        buffer.writeDoubleArray(this.doubles, 0, Values.BATCH);
+        counter.add(Values.BATCH * 8);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public int[] readInt32Loop(ByteCounter counter) {
+        ByteArrayJava buffer = input(this.intInput);
+        int[] values = this.intTarget;
+        for (int i = 0; i < Values.BATCH; i++) {
+            values[i] = buffer.readInt32();
+        }
+        counter.add(Values.BATCH * 4);
+        return values;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public int[] readInt32Array(ByteCounter counter) {
+        input(this.intInput).readInt32Array(this.intTarget, 0, Values.BATCH);
+        counter.add(Values.BATCH * 4);
+        return this.intTarget;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long[] readInt64Loop(ByteCounter counter) {
+        ByteArrayJava buffer = input(this.longInput);
+        long[] values = this.longTarget;
+        for (int i = 0; i < Values.BATCH; i++) {
+            values[i] = buffer.readInt64();
+        }
+        counter.add(Values.BATCH * 8);
+        return values;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long[] readInt64Array(ByteCounter counter) {
+        input(this.longInput).readInt64Array(this.longTarget, 0, Values.BATCH);
+        counter.add(Values.BATCH * 8);
+        return this.longTarget;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public double[] readDoubleLoop(ByteCounter counter) {
+        ByteArrayJava buffer = input(this.doubleInput);
+        double[] values = this.doubleTarget;
+        for (int i = 0; i < Values.BATCH; i++) {
+            values[i] = buffer.readDouble();
+        }
+        counter.add(Values.BATCH * 8);
+        return values;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public double[] readDoubleArray(ByteCounter counter) {
+        input(this.doubleInput).readDoubleArray(this.doubleTarget, 0, Values.BATCH);
+        counter.add(Values.BATCH * 8);
+        return this.doubleTarget;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import com.Zaseth.ColumnCodec;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+The bulk operations on their scalar loops, VectorBulkBenchmark runs the same methods with the vector API
+module added. writeInt8Array is a copy and a zero count, unpack reads 20 bit values with readBitPacked
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkBenchmark {
+    
+    @Param({"256", "65536"})
+    public int size;
+    
+    private byte[] bytes;
+    private ByteArrayJava buffer;
+    private ByteArrayJava copy;
+    private ByteArrayJava output;
+    
+    private ByteArrayJava packed;
+    private long[] decoded;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(0x5eedL);
+        this.bytes = new byte[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.bytes[i] = random.nextInt(8) == 0 ? 0 : (byte) random.nextInt();
+        }
+        this.buffer = new ByteArrayJava(this.size);
+        this.buffer.writeBytes(this.bytes, 0, this.size);
+        this.copy = new ByteArrayJava(this.size);
+        this.copy.writeBytes(this.bytes, 0, this.size);
+        this.output = new ByteArrayJava(this.size);
+        long[] values = new long[Values.BATCH];
+        for (int i = 0; i < Values.BATCH; i++) {
+            values[i] = random.nextInt(1 << 20);
+        }
+        this.packed = new ByteArrayJava(Values.BATCH * 8);
+        ColumnCodec.writeBitPacked(this.packed, values, 0, Values.BATCH);
+        this.decoded = new long[Values.BATCH];
+    }
+    
+    @Benchmark
+    public ByteArrayJava writeInt8Array(ByteCounter counter) {
+        this.output.setPosition(0);
+        this.output.writeInt8Array(this.bytes);
+        counter.add(this.size);
+        return this.output;
+    }
+    
+    @Benchmark
+    public ByteArrayJava swapEndian(ByteCounter counter) {
+        this.buffer.swapEndian(0, this.size, 8);
+        counter.add(this.size);
+        return this.buffer;
+    }
+    
+    @Benchmark
+    public int mismatch(ByteCounter counter) {
+        counter.add(this.size);
+        return this.buffer.mismatch(0, this.copy, 0, this.size);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long[] unpack() {
+        this.packed.setPosition(0);
+        ColumnCodec.readBitPacked(this.packed, this.decoded, 0, Values.BATCH);
+        return this.decoded;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.Zaseth.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+Reports the encoded or decoded bytes next to the ops/sec score, JMH turns it into bytes/sec
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class ByteCounter {
+    
+    public long bytes;
+    
+    @Setup(Level.Iteration)
+    public void reset() {
+        this.bytes = 0;
+    }
+    
+    public void add(int bytes) {
+        this.bytes += bytes;
+    }
+}
\ No newline at end of file
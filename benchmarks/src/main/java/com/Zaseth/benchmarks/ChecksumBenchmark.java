@@ -0,0 +1,76 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+A frame checked by copying it out with readBytes and running CRC32 on the copy, against CRC32, CRC32C and
+xxHash64 run on the buffer in place
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChecksumBenchmark {
+    
+    @Param({"256", "65536"})
+    public int size;
+    
+    private ByteArrayJava buffer;
+    private final CRC32 crc32 = new CRC32();
+    
+    @Setup
+    public void setup() {
+        byte[] bytes = new byte[this.size];
+        new Random(0x5eedL).nextBytes(bytes);
+        this.buffer = new ByteArrayJava(this.size);
+        this.buffer.writeBytes(bytes, 0, this.size);
+    }
+    
+    @Benchmark
+    public long copyCrc32(ByteCounter counter) {
+        this.buffer.setPosition(0);
+        byte[] copy = this.buffer.readBytes(this.size);
+        CRC32 crc = this.crc32;
+        crc.reset();
+        crc.update(copy, 0, copy.length);
+        counter.add(this.size);
+        return crc.getValue();
+    }
+    
+    @Benchmark
+    public long crc32(ByteCounter counter) {
+        CRC32 crc = this.crc32;
+        crc.reset();
+        this.buffer.updateChecksum(crc, 0, this.size);
+        counter.add(this.size);
+        return crc.getValue();
+    }
+    
+    @Benchmark
+    public long crc32c(ByteCounter counter) {
+        counter.add(this.size);
+        return this.buffer.crc32c(0, this.size);
+    }
+    
+    @Benchmark
+    public long xxHash64(ByteCounter counter) {
+        counter.add(this.size);
+        return this.buffer.xxHash64(0, this.size);
+    }
+}
\ No newline at end of file
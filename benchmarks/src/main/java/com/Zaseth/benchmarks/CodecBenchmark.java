@@ -0,0 +1,150 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import java.io.UTFDataFormatException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+Generated OrderCodec against the same fields written and read by hand in declaration order
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+    
+    private static final int ORDERS = 256;
+    
+    @Param({"BIG", "LITTLE"})
+    public String endian;
+    
+    private Order[] orders;
+    private Order target;
+    
+    private ByteArrayJava output;
+    private ByteArrayJava generated;
+    private ByteArrayJava handWritten;
+    private int bytes;
+    
+    @Setup
+    public void setup() throws UTFDataFormatException {
+        Random random = new Random(0x5eedL);
+        String[] symbols = Values.strings("ASCII", 6, 16);
+        this.orders = new Order[ORDERS];
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order();
+            order.id = random.nextLong();
+            order.symbol = symbols[random.nextInt(symbols.length)];
+            order.buy = random.nextBoolean();
+            order.price = random.nextInt(1000000) / 100.0;
+            order.quantity = random.nextInt(10000);
+            order.venue = random.nextInt(200);
+            order.flags = (short) random.nextInt(1 << 15);
+            order.timestamp = 1600000000000L + random.nextInt();
+            order.delta = random.nextInt(2000) - 1000;
+            this.orders[i] = order;
+        }
+        this.target = new Order();
+        this.output = this.newBuffer();
+        this.generated = this.newBuffer();
+        this.handWritten = this.newBuffer();
+        for (Order order : this.orders) {
+            OrderCodec.write(this.generated, order);
+            writeByHand(this.handWritten, order);
+        }
+        this.bytes = this.generated.getPosition();
+    }
+    
+    private ByteArrayJava newBuffer() {
+        ByteArrayJava buffer = new ByteArrayJava(ORDERS * 64);
+        buffer.setEndian(Values.bigEndian(this.endian));
+        return buffer;
+    }
+    
+    private static void writeByHand(ByteArrayJava out, Order order) throws UTFDataFormatException {
+        out.writeInt64(order.id);
+        out.writeUTF(order.symbol);
+        out.writeBoolean(order.buy);
+        out.writeDouble(order.price);
+        out.writeInt32(order.quantity);
+        out.writeVarInt32(order.venue);
+        out.writeInt16(order.flags);
+        out.writeInt64(order.timestamp);
+        out.writeVarUInt64(order.delta);
+    }
+    
+    private static void readByHand(ByteArrayJava in, Order order) throws UTFDataFormatException {
+        order.id = in.readInt64();
+        order.symbol = in.readUTF();
+        order.buy = in.readBoolean();
+        order.price = in.readDouble();
+        order.quantity = in.readInt32();
+        order.venue = in.readVarInt32();
+        order.flags = (short) in.readInt16();
+        order.timestamp = in.readInt64();
+        order.delta = in.readVarUInt64();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public ByteArrayJava writeGenerated(ByteCounter counter) throws UTFDataFormatException {
+        ByteArrayJava out = this.output;
+        out.setPosition(0);
+        for (Order order : this.orders) {
+            OrderCodec.write(out, order);
+        }
+        counter.add(this.bytes);
+        return out;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public ByteArrayJava writeHandWritten(ByteCounter counter) throws UTFDataFormatException {
+        ByteArrayJava out = this.output;
+        out.setPosition(0);
+        for (Order order : this.orders) {
+            writeByHand(out, order);
+        }
+        counter.add(this.bytes);
+        return out;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public Order readGenerated(ByteCounter counter) throws UTFDataFormatException {
+        ByteArrayJava in = this.generated;
+        in.setPosition(0);
+        for (int i = 0; i < ORDERS; i++) {
+            OrderCodec.readInto(in, this.target);
+        }
+        counter.add(this.bytes);
+        return this.target;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public Order readHandWritten(ByteCounter counter) throws UTFDataFormatException {
+        ByteArrayJava in = this.handWritten;
+        in.setPosition(0);
+        for (int i = 0; i < ORDERS; i++) {
+            readByHand(in, this.target);
+        }
+        counter.add(this.bytes);
+        return this.target;
+    }
+}
\ No newline at end of file
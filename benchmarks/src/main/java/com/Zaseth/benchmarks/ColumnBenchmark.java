@@ -0,0 +1,104 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import com.Zaseth.ColumnCodec;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+A series of millisecond timestamps, one a second with some jitter. VARINT writes one value at a time, the
+rest are ColumnCodec block encodings. The :bytes counter divided by the score is the encoded size per value
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnBenchmark {
+    
+    @Param({"VARINT", "DELTA", "DELTA_OF_DELTA", "BIT_PACKED"})
+    public String encoding;
+    
+    private long[] timestamps;
+    private long[] decoded;
+    
+    private ByteArrayJava output;
+    private ByteArrayJava input;
+    private int bytes;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(0x5eedL);
+        this.timestamps = new long[Values.BATCH];
+        long timestamp = 1600000000000L;
+        for (int i = 0; i < Values.BATCH; i++) {
+            this.timestamps[i] = timestamp += 1000 + (random.nextInt(10) == 0 ? random.nextInt(20) - 10 : 0);
+        }
+        this.decoded = new long[Values.BATCH];
+        this.output = new ByteArrayJava(Values.BATCH * 16);
+        this.input = new ByteArrayJava(Values.BATCH * 16);
+        this.writeTimestamps(this.input);
+        this.bytes = this.input.getPosition();
+    }
+    
+    private void writeTimestamps(ByteArrayJava buffer) {
+        if ("VARINT".equals(this.encoding)) {
+            for (int i = 0; i < Values.BATCH; i++) {
+                buffer.writeVarInt64(this.timestamps[i]);
+            }
+        } else if ("DELTA".equals(this.encoding)) {
+            ColumnCodec.writeDeltaInt64(buffer, this.timestamps, 0, Values.BATCH);
+        } else if ("DELTA_OF_DELTA".equals(this.encoding)) {
+            ColumnCodec.writeDeltaOfDelta(buffer, this.timestamps, 0, Values.BATCH);
+        } else if ("BIT_PACKED".equals(this.encoding)) {
+            ColumnCodec.writeBitPacked(buffer, this.timestamps, 0, Values.BATCH);
+        } else {
+            throw new IllegalArgumentException("Unknown encoding: " + this.encoding);
+        }
+    }
+    
+    private void readTimestamps(ByteArrayJava buffer) {
+        if ("VARINT".equals(this.encoding)) {
+            for (int i = 0; i < Values.BATCH; i++) {
+                this.decoded[i] = buffer.readVarInt64();
+            }
+        } else if ("DELTA".equals(this.encoding)) {
+            ColumnCodec.readDeltaInt64(buffer, this.decoded, 0, Values.BATCH);
+        } else if ("DELTA_OF_DELTA".equals(this.encoding)) {
+            ColumnCodec.readDeltaOfDelta(buffer, this.decoded, 0, Values.BATCH);
+        } else {
+            ColumnCodec.readBitPacked(buffer, this.decoded, 0, Values.BATCH);
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava write(ByteCounter counter) {
+        this.output.setPosition(0);
+        this.writeTimestamps(this.output);
+        counter.add(this.bytes);
+        return this.output;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long[] read(ByteCounter counter) {
+        this.input.setPosition(0);
+        this.readTimestamps(this.input);
+        counter.add(this.bytes);
+        return this.decoded;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import com.Zaseth.Compressor;
+import java.io.UTFDataFormatException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+A 64KB block compressed and decompressed between ByteArrayJava buffers. The :compressed counter next to
+:bytes gives the ratio, ORDERS is OrderCodec output, TEXT words from a small vocabulary and RANDOM doesn't
+compress at all
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+    
+    private static final int BLOCK = 1 << 16;
+    
+    @Param({"LZ4", "DEFLATE_1", "DEFLATE_6"})
+    public String codec;
+    
+    @Param({"ORDERS", "TEXT", "RANDOM"})
+    public String content;
+    
+    private Compressor compressor;
+    private ByteArrayJava raw;
+    private ByteArrayJava compressed;
+    private ByteArrayJava output;
+    private int compressedLength;
+    
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class CompressedCounter {
+        
+        public long compressed;
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.compressed = 0;
+        }
+    }
+    
+    @Setup
+    public void setup() throws UTFDataFormatException {
+        if ("LZ4".equals(this.codec)) {
+            this.compressor = Compressor.lz4();
+        } else if (this.codec.startsWith("DEFLATE_")) {
+            this.compressor = Compressor.deflate(Integer.parseInt(this.codec.substring(8)));
+        } else {
+            throw new IllegalArgumentException("Unknown codec: " + this.codec);
+        }
+        this.raw = content(this.content);
+        this.compressed = new ByteArrayJava(this.compressor.maxCompressedLength(BLOCK));
+        this.compressedLength = this.compressor.compress(this.raw, BLOCK, this.compressed);
+        this.output = new ByteArrayJava(BLOCK);
+    }
+    
+    private static ByteArrayJava content(String content) throws UTFDataFormatException {
+        Random random = new Random(0x5eedL);
+        ByteArrayJava buffer = new ByteArrayJava(BLOCK + 256);
+        if ("ORDERS".equals(content)) {
+            String[] symbols = Values.strings("ASCII", 6, 16);
+            Order order = new Order();
+            while (buffer.getPosition() < BLOCK) {
+                order.id = random.nextLong();
+                order.symbol = symbols[random.nextInt(symbols.length)];
+                order.buy = random.nextBoolean();
+                order.price = random.nextInt(1000000) / 100.0;
+                order.quantity = random.nextInt(10000);
+                order.venue = random.nextInt(200);
+                order.flags = (short) random.nextInt(1 << 15);
+                order.timestamp = 1600000000000L + random.nextInt();
+                order.delta = random.nextInt(2000) - 1000;
+                OrderCodec.write(buffer, order);
+            }
+        } else if ("TEXT".equals(content)) {
+            List<String> words = new ArrayList<>();
+            for (int length = 3; length <= 10; length++) {
+                words.addAll(Arrays.asList(Values.strings("ASCII", length, 32)));
+            }
+            while (buffer.getPosition() < BLOCK) {
+                buffer.writeMultiByte(words.get(random.nextInt(words.size())) + ' ', "US-ASCII");
+            }
+        } else if ("RANDOM".equals(content)) {
+            byte[] bytes = new byte[BLOCK];
+            random.nextBytes(bytes);
+            buffer.writeBytes(bytes, 0, BLOCK);
+        } else {
+            throw new IllegalArgumentException("Unknown content: " + content);
+        }
+        buffer.setPosition(0);
+        return buffer;
+    }
+    
+    @Benchmark
+    public ByteArrayJava compress(ByteCounter counter, CompressedCounter compressed) {
+        this.raw.setPosition(0);
+        this.output.setPosition(0);
+        int n = this.compressor.compress(this.raw, BLOCK, this.output);
+        counter.add(BLOCK);
+        compressed.compressed += n;
+        return this.output;
+    }
+    
+    @Benchmark
+    public ByteArrayJava decompress(ByteCounter counter, CompressedCounter compressed) {
+        this.compressed.setPosition(0);
+        this.output.setPosition(0);
+        this.compressor.decompress(this.compressed, this.compressedLength, this.output, BLOCK);
+        counter.add(BLOCK);
+        compressed.compressed += this.compressedLength;
+        return this.output;
+    }
+}
\ No newline at end of file
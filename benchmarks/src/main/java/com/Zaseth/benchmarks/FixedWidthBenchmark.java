@@ -0,0 +1,497 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.BigEndianByteArray;
+import com.Zaseth.ByteArrayJava;
+import com.Zaseth.LittleEndianByteArray;
+import com.Zaseth.ViewByteArrayJava;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+Fixed width writeInt* / writeUInt* encoders and their readers, one batch of values per invocation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixedWidthBenchmark {
+    
+    @Param({"BIG", "LITTLE"})
+    public String endian;
+    
+    @Param({"SMALL", "FULL"})
+    public String distribution;
+    
+    @Param({"SCALAR", "VIEW", "SPECIALIZED"})
+    public String engine;
+    
+    private int[] int8, int16, int24, int32;
+    private int[] uint8, uint16, uint24;
+    private long[] int40, int48, int56, int64;
+    private long[] uint40, uint48, uint56;
+    
+    private ByteArrayJava output;
+    private ByteArrayJava[] input;
+    
+    @Setup
+    public void setup() {
+        int[] ints = Values.ints(this.distribution, Values.BATCH);
+        long[] longs = Values.longs(this.distribution, Values.BATCH);
+        this.int8 = Values.signed(ints, 8);
+        this.int16 = Values.signed(ints, 16);
+        this.int24 = Values.signed(ints, 24);
+        this.int32 = ints;
+        this.uint8 = Values.unsigned(ints, 8);
+        this.uint16 = Values.unsigned(ints, 16);
+        this.uint24 = Values.unsigned(ints, 24);
+        this.int40 = Values.signed(longs, 40);
+        this.int48 = Values.signed(longs, 48);
+        this.int56 = Values.signed(longs, 56);
+        this.int64 = longs;
+        this.uint40 = Values.unsigned(longs, 40);
+        this.uint48 = Values.unsigned(longs, 48);
+        this.uint56 = Values.unsigned(longs, 56);
+        this.output = this.newBuffer();
+        this.input = new ByteArrayJava[9];
+        for (int width = 1; width <= 8; width++) {
+            this.input[width] = this.newBuffer();
+        }
+        for (int i = 0; i < Values.BATCH; i++) {
+            this.input[1].writeInt8(this.int8[i]);
+            this.input[2].writeInt16(this.int16[i]);
+            this.input[3].writeInt24(this.int24[i]);
+            this.input[4].writeInt32(this.int32[i]);
+            this.input[5].writeInt40(this.int40[i]);
+            this.input[6].writeInt48(this.int48[i]);
+            this.input[7].writeInt56(this.int56[i]);
+            this.input[8].writeInt64(this.int64[i]);
+        }
+    }
+    
+    private ByteArrayJava newBuffer() {
+        ByteArrayJava buffer;
+        if ("SCALAR".equals(this.engine)) {
+            buffer = new ByteArrayJava(Values.BATCH * 8);
+        } else if ("VIEW".equals(this.engine)) {
+            buffer = new ViewByteArrayJava(Values.BATCH * 8);
+        } else if ("SPECIALIZED".equals(this.engine)) {
+            if (Values.bigEndian(this.endian)) {
+                buffer = new BigEndianByteArray(Values.BATCH * 8);
+            } else {
+                buffer = new LittleEndianByteArray(Values.BATCH * 8);
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown engine: " + this.engine);
+        }
+        buffer.setEndian(Values.bigEndian(this.endian));
+        return buffer;
+    }
+    
+    private ByteArrayJava output() {
+        this.output.setPosition(0);
+        return this.output;
+    }
+    
+    private ByteArrayJava input(int width) {
+        ByteArrayJava buffer = this.input[width];
+        buffer.setPosition(0);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt8(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.int8;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt8(values[i]);
+        }
+        counter.add(Values.BATCH * 1);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt16(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.int16;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt16(values[i]);
+        }
+        counter.add(Values.BATCH * 2);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt24(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.int24;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt24(values[i]);
+        }
+        counter.add(Values.BATCH * 3);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt32(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.int32;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt32(values[i]);
+        }
+        counter.add(Values.BATCH * 4);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt40(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.int40;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt40(values[i]);
+        }
+        counter.add(Values.BATCH * 5);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt48(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.int48;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt48(values[i]);
+        }
+        counter.add(Values.BATCH * 6);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt56(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.int56;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt56(values[i]);
+        }
+        counter.add(Values.BATCH * 7);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt64(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.int64;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt64(values[i]);
+        }
+        counter.add(Values.BATCH * 8);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeUInt8(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.uint8;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeUInt8(values[i]);
+        }
+        counter.add(Values.BATCH * 1);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeUInt16(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.uint16;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeUInt16(values[i]);
+        }
+        counter.add(Values.BATCH * 2);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeUInt24(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.uint24;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeUInt24(values[i]);
+        }
+        counter.add(Values.BATCH * 3);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeUInt32(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.int32;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeUInt32(values[i]);
+        }
+        counter.add(Values.BATCH * 4);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeUInt40(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.uint40;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeUInt40(values[i]);
+        }
+        counter.add(Values.BATCH * 5);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeUInt48(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.uint48;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeUInt48(values[i]);
+        }
+        counter.add(Values.BATCH * 6);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeUInt56(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.uint56;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeUInt56(values[i]);
+        }
+        counter.add(Values.BATCH * 7);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeUInt64(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.int64;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeUInt64(values[i]);
+        }
+        counter.add(Values.BATCH * 8);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readInt8(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(1);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readInt8();
+        }
+        counter.add(Values.BATCH * 1);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readInt16(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(2);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readInt16();
+        }
+        counter.add(Values.BATCH * 2);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readInt24(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(3);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readInt24();
+        }
+        counter.add(Values.BATCH * 3);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readInt32(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(4);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readInt32();
+        }
+        counter.add(Values.BATCH * 4);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readInt40(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(5);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readInt40();
+        }
+        counter.add(Values.BATCH * 5);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readInt48(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(6);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readInt48();
+        }
+        counter.add(Values.BATCH * 6);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readInt56(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(7);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readInt56();
+        }
+        counter.add(Values.BATCH * 7);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readInt64(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(8);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readInt64();
+        }
+        counter.add(Values.BATCH * 8);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readUInt8(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(1);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readUInt8();
+        }
+        counter.add(Values.BATCH * 1);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readUInt16(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(2);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readUInt16();
+        }
+        counter.add(Values.BATCH * 2);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readUInt24(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(3);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readUInt24();
+        }
+        counter.add(Values.BATCH * 3);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readUInt32(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(4);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readUInt32();
+        }
+        counter.add(Values.BATCH * 4);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readUInt40(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(5);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readUInt40();
+        }
+        counter.add(Values.BATCH * 5);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readUInt48(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(6);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readUInt48();
+        }
+        counter.add(Values.BATCH * 6);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readUInt56(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(7);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readUInt56();
+        }
+        counter.add(Values.BATCH * 7);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readUInt64(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(8);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readUInt64();
+        }
+        counter.add(Values.BATCH * 8);
+        return result;
+    }
+}
\ No newline at end of file
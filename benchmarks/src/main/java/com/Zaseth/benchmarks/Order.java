@@ -0,0 +1,23 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.codegen.Encoding;
+import com.Zaseth.codegen.Serialize;
+
+/*
+Message encoded by CodecBenchmark, its OrderCodec is generated at compile time
+ */
+@Serialize
+public class Order {
+    
+    long id;
+    String symbol;
+    boolean buy;
+    double price;
+    int quantity;
+    @Encoding(Encoding.Type.VARINT)
+    int venue;
+    short flags;
+    long timestamp;
+    @Encoding(Encoding.Type.ZIGZAG)
+    long delta;
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import com.Zaseth.RingBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+One producer and one consumer passing 16 byte records through a RingBuffer, publishing and releasing after
+every batch records. Compare the bytes/sec, a failed claim or an empty poll counts as an operation too
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingBenchmark {
+    
+    private static final int RECORD = 16;
+    
+    @Param({"1", "32"})
+    public int batch;
+    
+    private RingBuffer ring;
+    private int claimed;
+    private int polled;
+    
+    @Setup
+    public void setup() {
+        this.ring = new RingBuffer(1 << 16);
+    }
+    
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public boolean produce(ByteCounter counter) {
+        ByteArrayJava region = this.ring.claim(RECORD);
+        if (region == null) {
+            this.ring.publish();
+            this.claimed = 0;
+            Thread.yield();
+            return false;
+        }
+        region.writeInt64(0x0123456789abcdefL);
+        region.writeInt64(42);
+        if (++this.claimed >= this.batch) {
+            this.ring.publish();
+            this.claimed = 0;
+        }
+        counter.add(RECORD);
+        return true;
+    }
+    
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public long consume() {
+        ByteArrayJava record = this.ring.poll();
+        if (record == null) {
+            this.ring.release();
+            this.polled = 0;
+            Thread.yield();
+            return 0;
+        }
+        long sum = record.readInt64() + record.readInt64();
+        if (++this.polled >= this.batch) {
+            this.ring.release();
+            this.polled = 0;
+        }
+        return sum;
+    }
+}
\ No newline at end of file
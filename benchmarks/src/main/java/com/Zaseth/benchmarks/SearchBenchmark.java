@@ -0,0 +1,114 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+A 64KB frame of lowercase text with a newline and a pattern of the given length at the end. The copy methods
+read the frame out with readBytes and loop over the copy, the rest search and compare the buffer in place
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+    
+    private static final int SIZE = 65536;
+    
+    @Param({"4", "16", "64"})
+    public int patternLength;
+    
+    private ByteArrayJava buffer;
+    private ByteArrayJava other;
+    private byte[] pattern;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(0x5eedL);
+        byte[] bytes = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            bytes[i] = (byte) (random.nextInt(8) == 0 ? ' ' : 'a' + random.nextInt(26));
+        }
+        this.pattern = Arrays.copyOfRange(bytes, SIZE - this.patternLength - 1, SIZE - 1);
+        bytes[SIZE - 1] = '\n';
+        this.buffer = new ByteArrayJava(SIZE);
+        this.buffer.writeBytes(bytes, 0, SIZE);
+        bytes[SIZE - 1] = '\r';
+        this.other = new ByteArrayJava(SIZE);
+        this.other.writeBytes(bytes, 0, SIZE);
+    }
+    
+    @Benchmark
+    public int copyIndexOfByte(ByteCounter counter) {
+        this.buffer.setPosition(0);
+        byte[] copy = this.buffer.readBytes(SIZE);
+        counter.add(SIZE);
+        for (int i = 0; i < copy.length; i++) {
+            if (copy[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    @Benchmark
+    public int indexOfByte(ByteCounter counter) {
+        this.buffer.setPosition(0);
+        counter.add(SIZE);
+        return this.buffer.indexOf((byte) '\n');
+    }
+    
+    @Benchmark
+    public int copyIndexOfPattern(ByteCounter counter) {
+        this.buffer.setPosition(0);
+        byte[] copy = this.buffer.readBytes(SIZE);
+        byte[] pattern = this.pattern;
+        counter.add(SIZE);
+        outer:
+        for (int i = 0; i <= copy.length - pattern.length; i++) {
+            for (int k = 0; k < pattern.length; k++) {
+                if (copy[i + k] != pattern[k]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+    
+    @Benchmark
+    public int indexOfPattern(ByteCounter counter) {
+        this.buffer.setPosition(0);
+        counter.add(SIZE);
+        return this.buffer.indexOf(this.pattern);
+    }
+    
+    @Benchmark
+    public int copyCompare(ByteCounter counter) {
+        this.buffer.setPosition(0);
+        this.other.setPosition(0);
+        counter.add(SIZE);
+        return Arrays.compareUnsigned(this.buffer.readBytes(SIZE), this.other.readBytes(SIZE));
+    }
+    
+    @Benchmark
+    public int compareTo(ByteCounter counter) {
+        counter.add(SIZE);
+        return this.buffer.compareTo(0, SIZE, this.other, 0, SIZE);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import com.Zaseth.StringCache;
+import java.io.UTFDataFormatException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+writeUTF / readUTF, with and without a StringCache, and writeMultiByte over ASCII, Latin-1 and CJK text
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringBenchmark {
+    
+    private static final int STRINGS = 64;
+    
+    @Param({"BIG", "LITTLE"})
+    public String endian;
+    
+    @Param({"ASCII", "LATIN", "CJK"})
+    public String content;
+    
+    @Param({"16", "256"})
+    public int length;
+    
+    private String[] strings;
+    private String utf16;
+    
+    private ByteArrayJava output;
+    private ByteArrayJava input;
+    private ByteArrayJava cachedInput;
+    private int utfBytes;
+    private int utf8Bytes;
+    private int utf16Bytes;
+    private int latin1Bytes;
+    
+    @Setup
+    public void setup() throws UTFDataFormatException {
+        this.strings = Values.strings(this.content, this.length, STRINGS);
+        this.utf16 = Values.bigEndian(this.endian) ? "UTF-16BE" : "UTF-16LE";
+        this.output = this.newBuffer();
+        this.input = this.newBuffer();
+        for (int i = 0; i < STRINGS; i++) {
+            this.input.writeUTF(this.strings[i]);
+        }
+        this.utfBytes = this.input.getPosition();
+        this.cachedInput = this.input.duplicate();
+        this.cachedInput.setStringCache(new StringCache(1024, 256));
+        this.utf8Bytes = this.writeMultiByte("UTF-8").getPosition();
+        this.utf16Bytes = this.writeMultiByte(this.utf16).getPosition();
+        this.latin1Bytes = this.writeMultiByte("ISO-8859-1").getPosition();
+    }
+    
+    private ByteArrayJava newBuffer() {
+        ByteArrayJava buffer = new ByteArrayJava(STRINGS * (this.length * 4 + 2));
+        buffer.setEndian(Values.bigEndian(this.endian));
+        return buffer;
+    }
+    
+    private ByteArrayJava output() {
+        this.output.setPosition(0);
+        return this.output;
+    }
+    
+    private ByteArrayJava writeMultiByte(String charset) {
+        ByteArrayJava buffer = this.output();
+        String[] values = this.strings;
+        for (int i = 0; i < STRINGS; i++) {
+            buffer.writeMultiByte(values[i], charset);
+        }
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(STRINGS)
+    public ByteArrayJava writeUTF(ByteCounter counter) throws UTFDataFormatException {
+        ByteArrayJava buffer = this.output();
+        String[] values = this.strings;
+        for (int i = 0; i < STRINGS; i++) {
+            buffer.writeUTF(values[i]);
+        }
+        counter.add(this.utfBytes);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(STRINGS)
+    public int readUTF(ByteCounter counter) throws UTFDataFormatException {
+        ByteArrayJava buffer = this.input;
+        buffer.setPosition(0);
+        int result = 0;
+        for (int i = 0; i < STRINGS; i++) {
+            result += buffer.readUTF().length();
+        }
+        counter.add(this.utfBytes);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(STRINGS)
+    public int readUTFCached(ByteCounter counter) throws UTFDataFormatException {
+        ByteArrayJava buffer = this.cachedInput;
+        buffer.setPosition(0);
+        int result = 0;
+        for (int i = 0; i < STRINGS; i++) {
+            result += buffer.readUTF().length();
+        }
+        counter.add(this.utfBytes);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(STRINGS)
+    public ByteArrayJava writeMultiByteUtf8(ByteCounter counter) {
+        counter.add(this.utf8Bytes);
+        return this.writeMultiByte("UTF-8");
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(STRINGS)
+    public ByteArrayJava writeMultiByteUtf16(ByteCounter counter) {
+        counter.add(this.utf16Bytes);
+        return this.writeMultiByte(this.utf16);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(STRINGS)
+    public ByteArrayJava writeMultiByteLatin1(ByteCounter counter) {
+        counter.add(this.latin1Bytes);
+        return this.writeMultiByte("ISO-8859-1");
+    }
+}
\ No newline at end of file
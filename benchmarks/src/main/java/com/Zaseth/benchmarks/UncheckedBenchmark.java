@@ -0,0 +1,132 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import com.Zaseth.UncheckedReader;
+import com.Zaseth.UncheckedWriter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+Records of an int16, int32, int64 and a varint written and read through the checked ByteArrayJava
+functions and through UncheckedWriter / UncheckedReader with one capacity check per batch
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UncheckedBenchmark {
+    
+    private static final int RECORD = 2 + 4 + 8 + 10;
+    
+    @Param({"BIG", "LITTLE"})
+    public String endian;
+    
+    private int[] shorts;
+    private int[] ints;
+    private long[] longs;
+    private long[] varints;
+    
+    private ByteArrayJava output;
+    private ByteArrayJava input;
+    private int bytes;
+    
+    @Setup
+    public void setup() {
+        this.shorts = Values.signed(Values.ints("FULL", Values.BATCH), 16);
+        this.ints = Values.ints("FULL", Values.BATCH);
+        this.longs = Values.longs("FULL", Values.BATCH);
+        this.varints = Values.longs("MIXED", Values.BATCH);
+        this.output = this.newBuffer();
+        this.input = this.newBuffer();
+        for (int i = 0; i < Values.BATCH; i++) {
+            this.input.writeInt16(this.shorts[i]);
+            this.input.writeInt32(this.ints[i]);
+            this.input.writeInt64(this.longs[i]);
+            this.input.writeVarInt64(this.varints[i]);
+        }
+        this.bytes = this.input.getPosition();
+    }
+    
+    private ByteArrayJava newBuffer() {
+        ByteArrayJava buffer = new ByteArrayJava(Values.BATCH * RECORD);
+        buffer.setEndian(Values.bigEndian(this.endian));
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeChecked(ByteCounter counter) {
+        ByteArrayJava buffer = this.output;
+        buffer.setPosition(0);
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt16(this.shorts[i]);
+            buffer.writeInt32(this.ints[i]);
+            buffer.writeInt64(this.longs[i]);
+            buffer.writeVarInt64(this.varints[i]);
+        }
+        counter.add(this.bytes);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeUnchecked(ByteCounter counter) {
+        ByteArrayJava buffer = this.output;
+        buffer.setPosition(0);
+        UncheckedWriter writer = buffer.uncheckedWriter().ensureWritable(Values.BATCH * RECORD);
+        for (int i = 0; i < Values.BATCH; i++) {
+            writer.writeInt16(this.shorts[i]);
+            writer.writeInt32(this.ints[i]);
+            writer.writeInt64(this.longs[i]);
+            writer.writeVarInt64(this.varints[i]);
+        }
+        counter.add(this.bytes);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readChecked(ByteCounter counter) {
+        ByteArrayJava buffer = this.input;
+        buffer.setPosition(0);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readInt16();
+            result ^= buffer.readInt32();
+            result ^= buffer.readInt64();
+            result ^= buffer.readVarInt64();
+        }
+        counter.add(this.bytes);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readUnchecked(ByteCounter counter) {
+        ByteArrayJava buffer = this.input;
+        buffer.setPosition(0);
+        UncheckedReader reader = buffer.uncheckedReader().require(this.bytes);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= reader.readInt16();
+            result ^= reader.readInt32();
+            result ^= reader.readInt64();
+            result ^= reader.readVarInt64();
+        }
+        counter.add(this.bytes);
+        return result;
+    }
+}
\ No newline at end of file
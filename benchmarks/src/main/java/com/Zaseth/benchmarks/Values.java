@@ -0,0 +1,109 @@
+package com.Zaseth.benchmarks;
+
+import java.util.Random;
+
+/*
+Value distributions shared by the benchmarks, always seeded so every run encodes the same input
+ */
+final class Values {
+    
+    static final int BATCH = 1024;
+    
+    private static final long SEED = 0x5eedL;
+    
+    private Values() {}
+    
+    static boolean bigEndian(String endian) {
+        if ("BIG".equals(endian)) {
+            return true;
+        } else if ("LITTLE".equals(endian)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Unknown endian: " + endian);
+    }
+    
+    /*
+    SMALL keeps every value inside one varint byte, MEDIUM inside two or three, MIXED picks a random
+    bit length per value and FULL draws from the whole range including negatives
+     */
+    static long[] longs(String distribution, int count) {
+        Random random = new Random(SEED);
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            if ("SMALL".equals(distribution)) {
+                values[i] = random.nextInt(0x80);
+            } else if ("MEDIUM".equals(distribution)) {
+                values[i] = 0x80 + random.nextInt(0x200000 - 0x80);
+            } else if ("MIXED".equals(distribution)) {
+                values[i] = random.nextLong() >>> random.nextInt(64);
+            } else if ("FULL".equals(distribution)) {
+                values[i] = random.nextLong();
+            } else {
+                throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+        }
+        return values;
+    }
+    
+    static int[] ints(String distribution, int count) {
+        long[] source = longs(distribution, count);
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = "MIXED".equals(distribution) ? (int) (source[i] >>> 32) : (int) source[i];
+        }
+        return values;
+    }
+    
+    static int[] signed(int[] values, int bits) {
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (values[i] << (32 - bits)) >> (32 - bits);
+        }
+        return result;
+    }
+    
+    static int[] unsigned(int[] values, int bits) {
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = bits == 32 ? values[i] : values[i] & ((1 << bits) - 1);
+        }
+        return result;
+    }
+    
+    static long[] signed(long[] values, int bits) {
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (values[i] << (64 - bits)) >> (64 - bits);
+        }
+        return result;
+    }
+    
+    static long[] unsigned(long[] values, int bits) {
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = bits == 64 ? values[i] : values[i] & ((1L << bits) - 1);
+        }
+        return result;
+    }
+    
+    static String[] strings(String content, int length, int count) {
+        Random random = new Random(SEED);
+        String[] values = new String[count];
+        char[] chars = new char[length];
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < length; j++) {
+                if ("ASCII".equals(content)) {
+                    chars[j] = (char) (0x20 + random.nextInt(0x5f));
+                } else if ("LATIN".equals(content)) {
+                    chars[j] = (char) (0xa0 + random.nextInt(0x60));
+                } else if ("CJK".equals(content)) {
+                    chars[j] = (char) (0x4e00 + random.nextInt(0x5200));
+                } else {
+                    throw new IllegalArgumentException("Unknown content: " + content);
+                }
+            }
+            values[i] = new String(chars);
+        }
+        return values;
+    }
+}
\ No newline at end of file
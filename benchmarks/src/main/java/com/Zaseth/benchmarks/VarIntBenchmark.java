@@ -0,0 +1,290 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+Variable length encoders (varints, zigzag varints, 7-bit encoded and 29-bit integers) and their readers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VarIntBenchmark {
+    
+    private static final int VARINT32 = 0;
+    private static final int VARINT64 = 1;
+    private static final int VARUINT32 = 2;
+    private static final int VARUINT64 = 3;
+    private static final int BIT7_INT = 4;
+    private static final int BIT7_LONG = 5;
+    private static final int INT29 = 6;
+    private static final int UINT29 = 7;
+    
+    @Param({"BIG", "LITTLE"})
+    public String endian;
+    
+    @Param({"SMALL", "MEDIUM", "MIXED", "FULL"})
+    public String distribution;
+    
+    private int[] ints;
+    private long[] longs;
+    private int[] uint29;
+    private int[] int29;
+    private long[] uint63;
+    
+    private ByteArrayJava output;
+    private ByteArrayJava[] input;
+    private int[] encodedBytes;
+    
+    @Setup
+    public void setup() {
+        this.ints = Values.ints(this.distribution, Values.BATCH);
+        this.longs = Values.longs(this.distribution, Values.BATCH);
+        this.uint29 = Values.unsigned(this.ints, 29);
+        this.int29 = Values.signed(this.ints, 29);
+        this.uint63 = Values.unsigned(this.longs, 63);
+        this.output = this.newBuffer();
+        this.input = new ByteArrayJava[8];
+        this.encodedBytes = new int[8];
+        for (int kind = 0; kind < 8; kind++) {
+            this.input[kind] = this.newBuffer();
+        }
+        for (int i = 0; i < Values.BATCH; i++) {
+            this.input[VARINT32].writeVarInt32(this.ints[i]);
+            this.input[VARINT64].writeVarInt64(this.longs[i]);
+            this.input[VARUINT32].writeVarUInt32(this.ints[i]);
+            this.input[VARUINT64].writeVarUInt64(this.longs[i]);
+            this.input[BIT7_INT].write7BitEncodedInt(this.uint29[i]);
+            this.input[BIT7_LONG].write7BitEncodedLong(this.uint63[i]);
+            this.input[INT29].writeInt29(this.int29[i]);
+            this.input[UINT29].writeUInt29(this.uint29[i]);
+        }
+        for (int kind = 0; kind < 8; kind++) {
+            this.encodedBytes[kind] = this.input[kind].getPosition();
+        }
+    }
+    
+    private ByteArrayJava newBuffer() {
+        ByteArrayJava buffer = new ByteArrayJava(Values.BATCH * 10);
+        buffer.setEndian(Values.bigEndian(this.endian));
+        return buffer;
+    }
+    
+    private ByteArrayJava output() {
+        this.output.setPosition(0);
+        return this.output;
+    }
+    
+    private ByteArrayJava input(int kind) {
+        ByteArrayJava buffer = this.input[kind];
+        buffer.setPosition(0);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeVarInt32(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.ints;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeVarInt32(values[i]);
+        }
+        counter.add(this.encodedBytes[VARINT32]);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeVarInt64(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.longs;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeVarInt64(values[i]);
+        }
+        counter.add(this.encodedBytes[VARINT64]);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeVarUInt32(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.ints;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeVarUInt32(values[i]);
+        }
+        counter.add(this.encodedBytes[VARUINT32]);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeVarUInt64(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.longs;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeVarUInt64(values[i]);
+        }
+        counter.add(this.encodedBytes[VARUINT64]);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava write7BitEncodedInt(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.uint29;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.write7BitEncodedInt(values[i]);
+        }
+        counter.add(this.encodedBytes[BIT7_INT]);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava write7BitEncodedLong(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        long[] values = this.uint63;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.write7BitEncodedLong(values[i]);
+        }
+        counter.add(this.encodedBytes[BIT7_LONG]);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeInt29(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.int29;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeInt29(values[i]);
+        }
+        counter.add(this.encodedBytes[INT29]);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeUInt29(ByteCounter counter) {
+        ByteArrayJava buffer = this.output();
+        int[] values = this.uint29;
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeUInt29(values[i]);
+        }
+        counter.add(this.encodedBytes[UINT29]);
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readVarInt32(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(VARINT32);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readVarInt32();
+        }
+        counter.add(this.encodedBytes[VARINT32]);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readVarInt64(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(VARINT64);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readVarInt64();
+        }
+        counter.add(this.encodedBytes[VARINT64]);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readVarUInt32(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(VARUINT32);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readVarUInt32();
+        }
+        counter.add(this.encodedBytes[VARUINT32]);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readVarUInt64(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(VARUINT64);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readVarUInt64();
+        }
+        counter.add(this.encodedBytes[VARUINT64]);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long read7BitEncodedInt(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(BIT7_INT);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.read7BitEncodedInt();
+        }
+        counter.add(this.encodedBytes[BIT7_INT]);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long read7BitEncodedLong(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(BIT7_LONG);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.read7BitEncodedLong();
+        }
+        counter.add(this.encodedBytes[BIT7_LONG]);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readInt29(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(INT29);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readInt29();
+        }
+        counter.add(this.encodedBytes[INT29]);
+        return result;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public long readUInt29(ByteCounter counter) {
+        ByteArrayJava buffer = this.input(UINT29);
+        long result = 0;
+        for (int i = 0; i < Values.BATCH; i++) {
+            result ^= buffer.readUInt29();
+        }
+        counter.add(this.encodedBytes[UINT29]);
+        return result;
+    }
+}
\ No newline at end of file
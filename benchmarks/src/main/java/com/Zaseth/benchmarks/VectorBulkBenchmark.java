@@ -0,0 +1,10 @@
+package com.Zaseth.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/*
+BulkBenchmark with jdk.incubator.vector added, so the multi-release jar picks the vector API versions
+ */
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class VectorBulkBenchmark extends BulkBenchmark {
+}
\ No newline at end of file
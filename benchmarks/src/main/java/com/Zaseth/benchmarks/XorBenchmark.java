@@ -0,0 +1,99 @@
+package com.Zaseth.benchmarks;
+
+import com.Zaseth.ByteArrayJava;
+import com.Zaseth.ColumnCodec;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+Prices moving up to a cent at a time, written one at a time with writeDouble and as one
+ColumnCodec.writeXorDoubles block. The :bytes counter divided by the score is the encoded size per value
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XorBenchmark {
+    
+    private double[] prices;
+    private double[] decoded;
+    
+    private ByteArrayJava output;
+    private ByteArrayJava plain;
+    private ByteArrayJava xor;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(0x5eedL);
+        this.prices = new double[Values.BATCH];
+        long cents = 10000;
+        for (int i = 0; i < Values.BATCH; i++) {
+            this.prices[i] = (cents += random.nextInt(3) - 1) / 100.0;
+        }
+        this.decoded = new double[Values.BATCH];
+        this.output = new ByteArrayJava(Values.BATCH * 16);
+        this.plain = new ByteArrayJava(Values.BATCH * 8);
+        for (int i = 0; i < Values.BATCH; i++) {
+            this.plain.writeDouble(this.prices[i]);
+        }
+        this.xor = new ByteArrayJava(Values.BATCH * 16);
+        ColumnCodec.writeXorDoubles(this.xor, this.prices, 0, Values.BATCH);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeDouble(ByteCounter counter) {
+        ByteArrayJava buffer = this.output;
+        buffer.setPosition(0);
+        for (int i = 0; i < Values.BATCH; i++) {
+            buffer.writeDouble(this.prices[i]);
+        }
+        counter.add(buffer.getPosition());
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public ByteArrayJava writeXorDoubles(ByteCounter counter) {
+        ByteArrayJava buffer = this.output;
+        buffer.setPosition(0);
+        ColumnCodec.writeXorDoubles(buffer, this.prices, 0, Values.BATCH);
+        counter.add(buffer.getPosition());
+        return buffer;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public double[] readDouble(ByteCounter counter) {
+        ByteArrayJava buffer = this.plain;
+        buffer.setPosition(0);
+        for (int i = 0; i < Values.BATCH; i++) {
+            this.decoded[i] = buffer.readDouble();
+        }
+        counter.add(buffer.getPosition());
+        return this.decoded;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(Values.BATCH)
+    public double[] readXorDoubles(ByteCounter counter) {
+        ByteArrayJava buffer = this.xor;
+        buffer.setPosition(0);
+        ColumnCodec.readXorDoubles(buffer, this.decoded, 0, Values.BATCH);
+        counter.add(buffer.getPosition());
+        return this.decoded;
+    }
+}
\ No newline at end of file
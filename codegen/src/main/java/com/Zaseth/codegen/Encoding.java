@@ -0,0 +1,23 @@
+package com.Zaseth.codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+Picks the wire format of an int, long, int[] or long[] field of a @Serialize class. FIXED is the default,
+VARINT suits small positive values and ZIGZAG small values of either sign
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Encoding {
+    
+    Type value();
+    
+    enum Type {
+        FIXED,
+        VARINT,
+        ZIGZAG
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.Zaseth.codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+Generates a <Name>Codec class next to the annotated class with static sizeOf, write, read and readInto
+on ByteArrayJava. Every non-static, non-transient field is serialized, so they can't be private or final
+and the class needs a no-argument constructor. Reference fields must not be null
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Serialize {
+}
\ No newline at end of file
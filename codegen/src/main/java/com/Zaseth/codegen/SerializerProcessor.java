@@ -0,0 +1,418 @@
+package com.Zaseth.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/*
+Writes the codec of every @Serialize class. Fixed width fields go first, widest first, and are written
+through UncheckedWriter after one ensureWritable covering all of them, the variable length fields follow
+in declaration order. The generated functions are straight-line calls on ByteArrayJava, nothing is looked
+up by reflection at runtime
+ */
+@SupportedAnnotationTypes({"com.Zaseth.codegen.Serialize", "com.Zaseth.codegen.Encoding"})
+public class SerializerProcessor extends AbstractProcessor {
+    
+    /*
+    Wire formats, size, write and read templates take the field as %1$s and the codec or enum values as
+    %2$s, a | separates statements
+     */
+    enum Kind {
+        BOOLEAN(1, null, "out.writeBoolean(%1$s);", "%1$s = in.readBoolean();"),
+        BYTE(1, null, "out.writeInt8(%1$s);", "%1$s = (byte) in.readInt8();"),
+        SHORT(2, null, "out.writeInt16(%1$s);", "%1$s = (short) in.readInt16();"),
+        CHAR(2, null, "out.writeUInt16(%1$s);", "%1$s = (char) in.readUInt16();"),
+        INT32(4, null, "out.writeInt32(%1$s);", "%1$s = in.readInt32();"),
+        VARINT32(-1, "ByteSizes.sizeOfVarInt32(%1$s)", "out.writeVarInt32(%1$s);", "%1$s = in.readVarInt32();"),
+        ZIGZAG32(-1, "ByteSizes.sizeOfVarUInt32(%1$s)", "out.writeVarUInt32(%1$s);", "%1$s = in.readVarUInt32();"),
+        INT64(8, null, "out.writeInt64(%1$s);", "%1$s = in.readInt64();"),
+        VARINT64(-1, "ByteSizes.sizeOfVarInt64(%1$s)", "out.writeVarInt64(%1$s);", "%1$s = in.readVarInt64();"),
+        ZIGZAG64(-1, "ByteSizes.sizeOfVarUInt64(%1$s)", "out.writeVarUInt64(%1$s);", "%1$s = in.readVarUInt64();"),
+        FLOAT(4, null, "out.writeFloat(%1$s);", "%1$s = in.readFloat();"),
+        DOUBLE(8, null, "out.writeDouble(%1$s);", "%1$s = in.readDouble();"),
+        STRING(-1, "ByteSizes.sizeOfUTF(%1$s)", "out.writeUTF(%1$s);", "%1$s = in.readUTF();"),
+        BYTES(-1, "ByteSizes.sizeOfVarInt32(%1$s.length) + %1$s.length", "out.writeVarInt32(%1$s.length);|out.writeBytes(%1$s, 0, %1$s.length);", "%1$s = in.readBytes(in.readVarInt32());"),
+        INT32_ARRAY(-1, "ByteSizes.sizeOfVarInt32(%1$s.length) + (long) %1$s.length * ByteSizes.INT32", "out.writeVarInt32(%1$s.length);|out.writeInt32Array(%1$s, 0, %1$s.length);", "%1$s = in.readInt32Array(in.readVarInt32());"),
+        VARINT32_ARRAY(-1, "ByteSizes.sizeOfVarInt32(%1$s.length) + ByteSizes.sizeOfVarInt32Array(%1$s, 0, %1$s.length)", "out.writeVarInt32(%1$s.length);|out.writeVarInt32Array(%1$s, 0, %1$s.length);", "%1$s = in.readVarInt32Array(in.readVarInt32());"),
+        INT64_ARRAY(-1, "ByteSizes.sizeOfVarInt32(%1$s.length) + (long) %1$s.length * ByteSizes.INT64", "out.writeVarInt32(%1$s.length);|out.writeInt64Array(%1$s, 0, %1$s.length);", "%1$s = in.readInt64Array(in.readVarInt32());"),
+        VARINT64_ARRAY(-1, "ByteSizes.sizeOfVarInt32(%1$s.length) + ByteSizes.sizeOfVarInt64Array(%1$s, 0, %1$s.length)", "out.writeVarInt32(%1$s.length);|out.writeVarInt64Array(%1$s, 0, %1$s.length);", "%1$s = in.readVarInt64Array(in.readVarInt32());"),
+        FLOAT_ARRAY(-1, "ByteSizes.sizeOfVarInt32(%1$s.length) + (long) %1$s.length * ByteSizes.FLOAT", "out.writeVarInt32(%1$s.length);|out.writeFloatArray(%1$s, 0, %1$s.length);", "%1$s = in.readFloatArray(in.readVarInt32());"),
+        DOUBLE_ARRAY(-1, "ByteSizes.sizeOfVarInt32(%1$s.length) + (long) %1$s.length * ByteSizes.DOUBLE", "out.writeVarInt32(%1$s.length);|out.writeDoubleArray(%1$s, 0, %1$s.length);", "%1$s = in.readDoubleArray(in.readVarInt32());"),
+        ENUM(-1, "ByteSizes.sizeOfVarInt32(%1$s.ordinal())", "out.writeVarInt32(%1$s.ordinal());", "%1$s = %2$s[in.readVarInt32()];"),
+        NESTED(-1, "%2$s.sizeOf(%1$s)", "%2$s.write(out, %1$s);", "%1$s = %2$s.read(in);");
+        
+        final int size;
+        final String sizeOf; // Variable length kinds only
+        final String write;
+        final String read;
+        
+        Kind(int size, String sizeOf, String write, String read) {
+            this.size = size;
+            this.sizeOf = sizeOf;
+            this.write = write;
+            this.read = read;
+        }
+    }
+    
+    static final class Property {
+        
+        final String name;
+        final Kind kind;
+        final String target; // Codec of a nested type or values of an enum
+        
+        Property(String name, Kind kind, String target) {
+            this.name = name;
+            this.kind = kind;
+            this.target = target;
+        }
+    }
+    
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+    
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(Serialize.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                this.error("@Serialize only applies to classes", element);
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            List<Property> properties = this.properties(type);
+            if (properties == null) {
+                continue;
+            }
+            try {
+                this.writeCodec(type, properties);
+            } catch (IOException e) {
+                this.error("Can't write " + codecName(type) + ": " + e.getMessage(), type);
+            }
+        }
+        return true;
+    }
+    
+    /*
+    Schema functions, return null after reporting an error
+     */
+    private List<Property> properties(TypeElement type) {
+        boolean valid = this.checkType(type);
+        List<Property> fixed = new ArrayList<>();
+        List<Property> variable = new ArrayList<>();
+        for (VariableElement field : fields(type)) {
+            Property property = this.property(type, field);
+            if (property == null) {
+                valid = false;
+            } else if (property.kind.size > 0) {
+                int i = fixed.size();
+                while (i > 0 && fixed.get(i - 1).kind.size < property.kind.size) {
+                    i--;
+                }
+                fixed.add(i, property);
+            } else {
+                variable.add(property);
+            }
+        }
+        if (!valid) {
+            return null;
+        }
+        fixed.addAll(variable);
+        return fixed;
+    }
+    
+    private boolean checkType(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            this.error("@Serialize class can't be abstract", type);
+            return false;
+        }
+        for (Element e = type; e.getKind().isClass() || e.getKind().isInterface(); e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                this.error("@Serialize class can't be private or nested in a private class", type);
+                return false;
+            }
+            if (((TypeElement) e).getNestingKind() == NestingKind.MEMBER && !e.getModifiers().contains(Modifier.STATIC) && !e.getEnclosingElement().getKind().isInterface()) {
+                this.error("@Serialize class must be top level or a static nested class", type);
+                return false;
+            }
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        this.error("@Serialize class needs a non-private constructor without arguments", type);
+        return false;
+    }
+    
+    private Property property(TypeElement owner, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)) {
+            this.error("Serialized field " + name + " can't be private or final, mark it transient to skip it", field);
+            return null;
+        }
+        if (!modifiers.contains(Modifier.PUBLIC) && !this.samePackage(owner, field.getEnclosingElement())) {
+            this.error("Serialized field " + name + " of a superclass in another package must be public", field);
+            return null;
+        }
+        Encoding annotation = field.getAnnotation(Encoding.class);
+        Encoding.Type encoding = annotation == null ? Encoding.Type.FIXED : annotation.value();
+        TypeMirror type = field.asType();
+        Kind kind = kind(type, encoding);
+        if (kind == null) {
+            this.error("Serialized field " + name + " has unsupported type " + type + (encoding == Encoding.Type.FIXED ? "" : " for " + encoding + " encoding"), field);
+            return null;
+        }
+        String target = null;
+        if (kind == Kind.ENUM) {
+            target = constant(name) + "_VALUES";
+        } else if (kind == Kind.NESTED) {
+            TypeElement nested = (TypeElement) ((DeclaredType) type).asElement();
+            target = this.packagePrefix(owner, nested) + codecName(nested);
+        }
+        return new Property(name, kind, target);
+    }
+    
+    private static Kind kind(TypeMirror type, Encoding.Type encoding) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return encoding == Encoding.Type.FIXED ? Kind.BOOLEAN : null;
+            case BYTE:
+                return encoding == Encoding.Type.FIXED ? Kind.BYTE : null;
+            case SHORT:
+                return encoding == Encoding.Type.FIXED ? Kind.SHORT : null;
+            case CHAR:
+                return encoding == Encoding.Type.FIXED ? Kind.CHAR : null;
+            case INT:
+                return encoding == Encoding.Type.FIXED ? Kind.INT32 : encoding == Encoding.Type.VARINT ? Kind.VARINT32 : Kind.ZIGZAG32;
+            case LONG:
+                return encoding == Encoding.Type.FIXED ? Kind.INT64 : encoding == Encoding.Type.VARINT ? Kind.VARINT64 : Kind.ZIGZAG64;
+            case FLOAT:
+                return encoding == Encoding.Type.FIXED ? Kind.FLOAT : null;
+            case DOUBLE:
+                return encoding == Encoding.Type.FIXED ? Kind.DOUBLE : null;
+            case ARRAY:
+                TypeKind component = ((ArrayType) type).getComponentType().getKind();
+                if (encoding == Encoding.Type.ZIGZAG) {
+                    return null;
+                } else if (component == TypeKind.INT) {
+                    return encoding == Encoding.Type.FIXED ? Kind.INT32_ARRAY : Kind.VARINT32_ARRAY;
+                } else if (component == TypeKind.LONG) {
+                    return encoding == Encoding.Type.FIXED ? Kind.INT64_ARRAY : Kind.VARINT64_ARRAY;
+                } else if (encoding != Encoding.Type.FIXED) {
+                    return null;
+                }
+                return component == TypeKind.BYTE ? Kind.BYTES : component == TypeKind.FLOAT ? Kind.FLOAT_ARRAY : component == TypeKind.DOUBLE ? Kind.DOUBLE_ARRAY : null;
+            case DECLARED:
+                if (encoding != Encoding.Type.FIXED) {
+                    return null;
+                }
+                TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+                if (element.getQualifiedName().contentEquals("java.lang.String")) {
+                    return Kind.STRING;
+                } else if (element.getKind() == ElementKind.ENUM) {
+                    return Kind.ENUM;
+                } else if (element.getAnnotation(Serialize.class) != null) {
+                    return Kind.NESTED;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+    
+    /*
+    Fields of the class and its superclasses, superclass fields first
+     */
+    private static List<VariableElement> fields(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() == TypeKind.DECLARED) {
+            fields.addAll(fields((TypeElement) ((DeclaredType) superclass).asElement()));
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+    
+    /*
+    Whether writing or reading the type can throw UTFDataFormatException
+     */
+    private static boolean hasStrings(TypeElement type, Set<TypeElement> visited) {
+        if (!visited.add(type)) {
+            return false;
+        }
+        for (VariableElement field : fields(type)) {
+            TypeMirror t = field.asType();
+            if (t.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            TypeElement element = (TypeElement) ((DeclaredType) t).asElement();
+            if (element.getQualifiedName().contentEquals("java.lang.String")) {
+                return true;
+            } else if (element.getAnnotation(Serialize.class) != null && hasStrings(element, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /*
+    Source functions
+     */
+    private void writeCodec(TypeElement type, List<Property> properties) throws IOException {
+        String packageName = this.processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String codec = codecName(type);
+        String name = this.packagePrefix(type, type) + this.relativeName(type);
+        String exceptions = hasStrings(type, new HashSet<TypeElement>()) ? " throws UTFDataFormatException" : "";
+        int fixedSize = 0;
+        StringBuilder order = new StringBuilder();
+        for (Property property : properties) {
+            if (property.kind.size > 0) {
+                fixedSize += property.kind.size;
+            }
+            order.append(order.length() == 0 ? "" : ", ").append(property.name);
+        }
+        StringBuilder s = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            s.append("package ").append(packageName).append(";\n\n");
+        }
+        s.append("import com.Zaseth.ByteArrayJava;\n");
+        s.append("import com.Zaseth.ByteSizes;\n");
+        if (fixedSize > 0) {
+            s.append("import com.Zaseth.UncheckedWriter;\n");
+        }
+        if (!exceptions.isEmpty()) {
+            s.append("import java.io.UTFDataFormatException;\n");
+        }
+        s.append("\n/*\nGenerated by SerializerProcessor from ").append(name).append(", don't edit. Wire order: ").append(order.length() == 0 ? "no fields" : order).append("\n */\n");
+        s.append("public final class ").append(codec).append(" {\n\n");
+        s.append("    public static final int FIXED_SIZE = ").append(fixedSize).append(";\n");
+        for (Property property : properties) {
+            if (property.kind == Kind.ENUM) {
+                String enumName = this.typeName(type, this.fieldType(type, property.name));
+                s.append("    private static final ").append(enumName).append("[] ").append(property.target).append(" = ").append(enumName).append(".values();\n");
+            }
+        }
+        s.append("\n    private ").append(codec).append("() {}\n\n");
+        s.append("    public static int sizeOf(").append(name).append(" value)").append(exceptions).append(" {\n");
+        s.append("        long size = FIXED_SIZE;\n");
+        for (Property property : properties) {
+            if (property.kind.sizeOf != null) {
+                s.append("        size += ").append(String.format(property.kind.sizeOf, "value." + property.name, property.target)).append(";\n");
+            }
+        }
+        s.append("        return Math.toIntExact(size);\n");
+        s.append("    }\n\n");
+        s.append("    public static void write(ByteArrayJava out, ").append(name).append(" value)").append(exceptions).append(" {\n");
+        if (fixedSize > 0) {
+            s.append("        UncheckedWriter unchecked = out.uncheckedWriter().ensureWritable(FIXED_SIZE);\n");
+        }
+        for (Property property : properties) {
+            // Fixed width writes fit in the room reserved above
+            String write = property.kind.size > 0 ? property.kind.write.replace("out.", "unchecked.") : property.kind.write;
+            statements(s, write, "value." + property.name, property.target);
+        }
+        s.append("    }\n\n");
+        s.append("    public static ").append(name).append(" read(ByteArrayJava in)").append(exceptions).append(" {\n");
+        s.append("        ").append(name).append(" value = new ").append(name).append("();\n");
+        s.append("        readInto(in, value);\n");
+        s.append("        return value;\n");
+        s.append("    }\n\n");
+        s.append("    public static void readInto(ByteArrayJava in, ").append(name).append(" value)").append(exceptions).append(" {\n");
+        for (Property property : properties) {
+            statements(s, property.kind.read, "value." + property.name, property.target);
+        }
+        s.append("    }\n}\n");
+        String qualified = packageName.isEmpty() ? codec : packageName + "." + codec;
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(qualified, type).openWriter()) {
+            writer.write(s.toString());
+        }
+    }
+    
+    private static void statements(StringBuilder s, String template, String field, String target) {
+        for (String statement : template.split("\\|")) {
+            s.append("        ").append(String.format(statement, field, target)).append('\n');
+        }
+    }
+    
+    /*
+    Help functions
+     */
+    private TypeMirror fieldType(TypeElement type, String name) {
+        for (VariableElement field : fields(type)) {
+            if (field.getSimpleName().contentEquals(name)) {
+                return field.asType();
+            }
+        }
+        throw new IllegalStateException(name);
+    }
+    
+    private String typeName(TypeElement owner, TypeMirror type) {
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return this.samePackage(owner, element) ? this.relativeName(element) : element.getQualifiedName().toString();
+    }
+    
+    /*
+    Package to put in front of a type or codec name from another package, empty inside the owner's package
+     */
+    private String packagePrefix(TypeElement owner, TypeElement type) {
+        if (this.samePackage(owner, type)) {
+            return "";
+        }
+        String packageName = this.processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        return packageName.isEmpty() ? "" : packageName + ".";
+    }
+    
+    private boolean samePackage(Element a, Element b) {
+        return this.processingEnv.getElementUtils().getPackageOf(a).equals(this.processingEnv.getElementUtils().getPackageOf(b));
+    }
+    
+    private String relativeName(TypeElement type) {
+        String qualified = type.getQualifiedName().toString();
+        String packageName = this.processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        return packageName.isEmpty() ? qualified : qualified.substring(packageName.length() + 1);
+    }
+    
+    private static String codecName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e.getKind().isClass() || e.getKind().isInterface(); e = e.getEnclosingElement()) {
+            name.insert(0, e.getSimpleName() + "_");
+        }
+        return name.append("Codec").toString();
+    }
+    
+    private static String constant(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+    
+    private void error(String message, Element element) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,234 @@
+package com.Zaseth;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+Atomic access to 1, 2, 4 and 8 byte fields at any offset of a byte array. Single bytes and aligned 4 and
+8 byte fields use their view handles directly. Any other field is updated with a compare and set loop on
+the aligned 8 (or 4) byte word that holds it, so the neighbouring bytes are never torn. A field that spans
+two words falls back to one of a few striped locks, fields at such offsets must only be accessed here
+ */
+final class Atomics {
+    
+    private static final VarHandle BYTE = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_NATIVE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final VarHandle LONG_NATIVE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    
+    private static final boolean NATIVE_BIG_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+    private static final int BASE_ALIGNMENT = ByteBuffer.wrap(new byte[8]).alignmentOffset(0, 8); // Same for every byte array
+    
+    private static final Object[] LOCKS = new Object[64];
+    
+    static {
+        for (int i = 0; i < LOCKS.length; i++) {
+            LOCKS[i] = new Object();
+        }
+    }
+    
+    private Atomics() {}
+    
+    /*
+    Field functions, values are sign extended from the field width
+     */
+    static long getVolatile(byte[] data, int index, int width, boolean bigEndian) {
+        if (width == 1) {
+            return (byte) BYTE.getVolatile(data, index);
+        } else if (isAligned(index, width)) {
+            return width == 4 ? (int) intHandle(bigEndian).getVolatile(data, index) : (long) longHandle(bigEndian).getVolatile(data, index);
+        }
+        int size = wordSize(data, index, width);
+        if (size == 0) {
+            synchronized (lock(index)) {
+                return getPlain(data, index, width, bigEndian);
+            }
+        }
+        int start = index - offset(index, size);
+        return decode(getWord(data, start, size) >>> shift(index, width, size), width, bigEndian);
+    }
+    
+    static void setVolatile(byte[] data, int index, int width, long value, boolean bigEndian) {
+        if (width == 1) {
+            BYTE.setVolatile(data, index, (byte) value);
+            return;
+        } else if (isAligned(index, width)) {
+            if (width == 4) {
+                intHandle(bigEndian).setVolatile(data, index, (int) value);
+            } else {
+                longHandle(bigEndian).setVolatile(data, index, value);
+            }
+            return;
+        }
+        int size = wordSize(data, index, width);
+        if (size == 0) {
+            synchronized (lock(index)) {
+                putPlain(data, index, width, value, bigEndian);
+            }
+            return;
+        }
+        int start = index - offset(index, size);
+        int shift = shift(index, width, size);
+        long mask = mask(width) << shift;
+        long bits = encode(value, width, bigEndian) << shift;
+        for (;;) {
+            long word = getWord(data, start, size);
+            if (compareAndSetWord(data, start, size, word, word & ~mask | bits)) {
+                return;
+            }
+        }
+    }
+    
+    static long compareAndExchange(byte[] data, int index, int width, long expected, long value, boolean bigEndian) {
+        if (width == 1) {
+            return (byte) BYTE.compareAndExchange(data, index, (byte) expected, (byte) value);
+        } else if (isAligned(index, width)) {
+            if (width == 4) {
+                return (int) intHandle(bigEndian).compareAndExchange(data, index, (int) expected, (int) value);
+            }
+            return (long) longHandle(bigEndian).compareAndExchange(data, index, expected, value);
+        }
+        int size = wordSize(data, index, width);
+        if (size == 0) {
+            synchronized (lock(index)) {
+                long current = getPlain(data, index, width, bigEndian);
+                if (current == expected) {
+                    putPlain(data, index, width, value, bigEndian);
+                }
+                return current;
+            }
+        }
+        int start = index - offset(index, size);
+        int shift = shift(index, width, size);
+        long mask = mask(width) << shift;
+        long bits = encode(value, width, bigEndian) << shift;
+        for (;;) {
+            long word = getWord(data, start, size);
+            long current = decode(word >>> shift, width, bigEndian);
+            if (current != expected || compareAndSetWord(data, start, size, word, word & ~mask | bits)) {
+                return current;
+            }
+        }
+    }
+    
+    static long getAndAdd(byte[] data, int index, int width, long delta, boolean bigEndian) {
+        if (width == 1) {
+            return (byte) BYTE.getAndAdd(data, index, (byte) delta);
+        } else if (isAligned(index, width)) {
+            if (width == 4) {
+                return (int) intHandle(bigEndian).getAndAdd(data, index, (int) delta);
+            }
+            return (long) longHandle(bigEndian).getAndAdd(data, index, delta);
+        }
+        int size = wordSize(data, index, width);
+        if (size == 0) {
+            synchronized (lock(index)) {
+                long current = getPlain(data, index, width, bigEndian);
+                putPlain(data, index, width, current + delta, bigEndian);
+                return current;
+            }
+        }
+        int start = index - offset(index, size);
+        int shift = shift(index, width, size);
+        long mask = mask(width) << shift;
+        for (;;) {
+            long word = getWord(data, start, size);
+            long current = decode(word >>> shift, width, bigEndian);
+            if (compareAndSetWord(data, start, size, word, word & ~mask | encode(current + delta, width, bigEndian) << shift)) {
+                return current;
+            }
+        }
+    }
+    
+    /*
+    Help functions
+     */
+    private static boolean isAligned(int index, int width) {
+        return width >= 4 && (BASE_ALIGNMENT + index & width - 1) == 0;
+    }
+    
+    private static int offset(int index, int size) {
+        return BASE_ALIGNMENT + index & size - 1;
+    }
+    
+    /*
+    Size of the aligned word holding the whole field, or 0 when there is none inside the array
+     */
+    private static int wordSize(byte[] data, int index, int width) {
+        for (int size = 8; size >= 4; size >>= 1) {
+            int offset = offset(index, size);
+            int start = index - offset;
+            if (offset + width <= size && start >= 0 && start + size <= data.length) {
+                return size;
+            }
+        }
+        return 0;
+    }
+    
+    private static int shift(int index, int width, int size) {
+        int offset = offset(index, size);
+        return NATIVE_BIG_ENDIAN ? (size - offset - width) << 3 : offset << 3;
+    }
+    
+    private static long mask(int width) {
+        return -1L >>> (64 - (width << 3));
+    }
+    
+    /*
+    Field value from its bytes in native order in the low bits, and back
+     */
+    private static long decode(long bits, int width, boolean bigEndian) {
+        bits = encode(bits, width, bigEndian);
+        int unused = 64 - (width << 3);
+        return bits << unused >> unused;
+    }
+    
+    private static long encode(long value, int width, boolean bigEndian) {
+        value &= mask(width);
+        return bigEndian == NATIVE_BIG_ENDIAN ? value : Long.reverseBytes(value) >>> (64 - (width << 3));
+    }
+    
+    private static long getWord(byte[] data, int start, int size) {
+        return size == 8 ? (long) LONG_NATIVE.getVolatile(data, start) : (int) INT_NATIVE.getVolatile(data, start) & 0xffffffffL;
+    }
+    
+    private static boolean compareAndSetWord(byte[] data, int start, int size, long expected, long value) {
+        if (size == 8) {
+            return LONG_NATIVE.compareAndSet(data, start, expected, value);
+        }
+        return INT_NATIVE.compareAndSet(data, start, (int) expected, (int) value);
+    }
+    
+    private static VarHandle intHandle(boolean bigEndian) {
+        return bigEndian ? INT_BE : INT_LE;
+    }
+    
+    private static VarHandle longHandle(boolean bigEndian) {
+        return bigEndian ? LONG_BE : LONG_LE;
+    }
+    
+    private static Object lock(int index) {
+        return LOCKS[(index >>> 3) & LOCKS.length - 1];
+    }
+    
+    private static long getPlain(byte[] data, int index, int width, boolean bigEndian) {
+        long v = 0;
+        for (int i = 0; i < width; i++) {
+            v = v << 8 | data[bigEndian ? index + i : index + width - 1 - i] & 0xff;
+        }
+        int unused = 64 - (width << 3);
+        return v << unused >> unused;
+    }
+    
+    private static void putPlain(byte[] data, int index, int width, long v, boolean bigEndian) {
+        for (int i = 0; i < width; i++) {
+            data[bigEndian ? index + width - 1 - i : index + i] = (byte) v;
+            v >>= 8;
+        }
+    }
+}
\ No newline at end of file
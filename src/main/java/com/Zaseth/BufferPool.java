@@ -0,0 +1,201 @@
+package com.Zaseth;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+Recycles the backing arrays of ByteArrayJava instances. Arrays are grouped in power of two size classes,
+every thread keeps a few of them per class without any synchronization and hands the rest to a shared
+lock-free store. Arrays in the thread caches and the shared store together never exceed maxRetainedBytes,
+the bytes cached by a thread that died are given back once its cache is collected. Recycled arrays are
+not zeroed
+ */
+public class BufferPool {
+    
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final BufferPool DEFAULT = new BufferPool(1024, 1 << 20, 64L << 20, 8);
+    
+    private final int minSize;
+    private final int maxSize;
+    private final int minShift;
+    private final long maxRetainedBytes;
+    private final int threadCacheSize;
+    
+    private final ConcurrentLinkedQueue<byte[]>[] shared;
+    private final ThreadLocal<ThreadCache> caches;
+    
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    /*
+    Constructor
+     */
+    public BufferPool(long maxRetainedBytes) {
+        this(1024, 1 << 20, maxRetainedBytes, 8);
+    }
+    
+    @SuppressWarnings("unchecked")
+    public BufferPool(int minSize, int maxSize, long maxRetainedBytes, int threadCacheSize) {
+        if (minSize <= 0 || Integer.bitCount(minSize) != 1) {
+            throw new IllegalArgumentException("Minimum size must be a power of two but got " + minSize + " instead");
+        }
+        if (maxSize < minSize || Integer.bitCount(maxSize) != 1) {
+            throw new IllegalArgumentException("Maximum size must be a power of two above the minimum size but got " + maxSize + " instead");
+        }
+        if (maxRetainedBytes < 0 || threadCacheSize < 0) {
+            throw new IllegalArgumentException("Retained bytes and thread cache size can't be negative");
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.minShift = Integer.numberOfTrailingZeros(minSize);
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.threadCacheSize = threadCacheSize;
+        final int classes = Integer.numberOfTrailingZeros(maxSize) - this.minShift + 1;
+        this.shared = (ConcurrentLinkedQueue<byte[]>[]) new ConcurrentLinkedQueue<?>[classes];
+        for (int i = 0; i < classes; i++) {
+            this.shared[i] = new ConcurrentLinkedQueue<byte[]>();
+        }
+        this.caches = new ThreadLocal<ThreadCache>() {
+            @Override
+            protected ThreadCache initialValue() {
+                ThreadCache cache = new ThreadCache(classes, BufferPool.this.threadCacheSize);
+                CLEANER.register(cache, new Release(BufferPool.this.retainedBytes, cache.bytes));
+                return cache;
+            }
+        };
+    }
+    
+    public static BufferPool getDefault() {
+        return DEFAULT;
+    }
+    
+    /*
+    Allocation functions
+     */
+    public byte[] allocate(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must be positive but got " + minCapacity + " instead");
+        }
+        if (minCapacity > this.maxSize) {
+            this.misses.increment();
+            return new byte[minCapacity];
+        }
+        int index = this.sizeClass(minCapacity);
+        byte[] array = this.caches.get().pop(index);
+        if (array == null) {
+            array = this.shared[index].poll();
+        }
+        if (array == null) {
+            this.misses.increment();
+            return new byte[this.minSize << index];
+        }
+        this.retainedBytes.addAndGet(-array.length);
+        this.hits.increment();
+        return array;
+    }
+    
+    public void recycle(byte[] array) {
+        if (array == null) {
+            return;
+        }
+        int length = array.length;
+        if (length < this.minSize || length > this.maxSize || Integer.bitCount(length) != 1) {
+            return; // Not one of our size classes
+        }
+        if (this.retainedBytes.addAndGet(length) > this.maxRetainedBytes) {
+            this.retainedBytes.addAndGet(-length);
+            return;
+        }
+        int index = this.sizeClass(length);
+        if (!this.caches.get().push(index, array)) {
+            this.shared[index].offer(array);
+        }
+    }
+    
+    private int sizeClass(int capacity) {
+        if (capacity <= this.minSize) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1) - this.minShift;
+    }
+    
+    /*
+    Data retrieval functions
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+    
+    public long getMisses() {
+        return this.misses.sum();
+    }
+    
+    public long getRetainedBytes() {
+        return this.retainedBytes.get();
+    }
+    
+    public long getMaxRetainedBytes() {
+        return this.maxRetainedBytes;
+    }
+    
+    @Override
+    public String toString() {
+        return "Hits: " + this.getHits() + "\r\nMisses: " + this.getMisses() + "\r\nRetained bytes: " + this.getRetainedBytes()
+                + "\r\nMax retained bytes: " + this.getMaxRetainedBytes();
+    }
+    
+    private static final class ThreadCache {
+        
+        private final byte[][][] arrays;
+        private final int[] counts;
+        // Only written by the owning thread, read by the cleaner once the thread is gone
+        final AtomicLong bytes = new AtomicLong();
+        
+        ThreadCache(int classes, int size) {
+            this.arrays = new byte[classes][size][];
+            this.counts = new int[classes];
+        }
+        
+        byte[] pop(int index) {
+            int count = this.counts[index];
+            if (count == 0) {
+                return null;
+            }
+            byte[] array = this.arrays[index][--count];
+            this.arrays[index][count] = null;
+            this.counts[index] = count;
+            this.bytes.lazySet(this.bytes.get() - array.length);
+            return array;
+        }
+        
+        boolean push(int index, byte[] array) {
+            int count = this.counts[index];
+            if (count == this.arrays[index].length) {
+                return false;
+            }
+            this.arrays[index][count] = array;
+            this.counts[index] = count + 1;
+            this.bytes.lazySet(this.bytes.get() + array.length);
+            return true;
+        }
+    }
+    
+    private static final class Release implements Runnable {
+        
+        private final AtomicLong retainedBytes;
+        private final AtomicLong cachedBytes;
+        
+        Release(AtomicLong retainedBytes, AtomicLong cachedBytes) {
+            this.retainedBytes = retainedBytes;
+            this.cachedBytes = cachedBytes;
+        }
+        
+        @Override
+        public void run() {
+            this.retainedBytes.addAndGet(-this.cachedBytes.get());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.Zaseth;
+
+/*
+Bulk operations over byte and long arrays. This is the scalar version, the multi-release jar carries a Java
+17 one in META-INF/versions that switches to the vector API when the JVM runs with
+--add-modules jdk.incubator.vector
+ */
+final class BulkOps {
+    
+    static final boolean VECTORIZED = false;
+    
+    private BulkOps() {}
+    
+    static int countZeros(byte[] data, int from, int to) {
+        return ScalarOps.countZeros(data, from, to);
+    }
+    
+    static int indexOf(byte[] data, int from, int to, byte value) {
+        return ScalarOps.indexOf(data, from, to, value);
+    }
+    
+    static void swap(byte[] data, int index, int length, int width) {
+        ScalarOps.swap(data, index, length, width);
+    }
+    
+    static int mismatch(byte[] a, int aIndex, byte[] b, int bIndex, int length) {
+        return ScalarOps.mismatch(a, aIndex, b, bIndex, length);
+    }
+    
+    static void unpack(long[] words, int width, long min, long[] values, int offset, int length) {
+        ScalarOps.unpack(words, width, min, values, offset, 0, length);
+    }
+}
\ No newline at end of file
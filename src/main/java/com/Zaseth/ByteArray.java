@@ -0,0 +1,25 @@
+package com.Zaseth;
+
+/*
+Read and write API shared by every random access buffer. Streams only implement the half they need,
+see ByteInput and ByteOutput
+ */
+public interface ByteArray extends ByteInput, ByteOutput {
+    
+    /*
+    Set and get functions
+     */
+    int length();
+    
+    int bytesAvailable();
+    
+    int getPosition();
+    
+    void setPosition(int position);
+    
+    int moveLeft(int v);
+    
+    int moveRight(int v);
+    
+    boolean getEndian();
+}
\ No newline at end of file
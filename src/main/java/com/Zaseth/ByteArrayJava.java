@@ -1,24 +1,62 @@
 package com.Zaseth;
 
+import java.io.IOException;
 import java.io.UTFDataFormatException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
 
-public class ByteArrayJava {
+public class ByteArrayJava implements ByteArray {
     
-    private byte[] data;
+    byte[] data;
     
-    private int position;
+    int position;
+    int base;
+    int limit = -1;
+    private int count;
     private int nullBytes;
     
     private int BUFFER_SIZE = 1024;
     
-    private boolean endian;
+    private GrowthPolicy growthPolicy = GrowthPolicy.doubling();
+    private BufferPool pool;
+    private ByteBuffer dataBuffer;
+    private StringCache stringCache;
+    private UncheckedWriter uncheckedWriter;
+    private UncheckedReader uncheckedReader;
+    private volatile int resizes;
+    private volatile long[] atomicUpdaters;
+    
+    boolean endian;
     private boolean BIG_ENDIAN = true;
     private boolean LITTLE_ENDIAN = false;
     
+    private static final VarHandle DATA;
+    private static final VarHandle RESIZES;
+    private static final VarHandle ATOMIC_UPDATERS;
+    private static final VarHandle UPDATERS = MethodHandles.arrayElementVarHandle(long[].class);
+    // One counter per 64 bytes so threads on different stripes never share a cache line
+    private static final int STRIDE = 8;
+    private static final int STRIPES = 1 << Math.min(32 - Integer.numberOfLeadingZeros(Runtime.getRuntime().availableProcessors() - 1), 6);
+    
+    static {
+        try {
+            DATA = MethodHandles.lookup().findVarHandle(ByteArrayJava.class, "data", byte[].class);
+            RESIZES = MethodHandles.lookup().findVarHandle(ByteArrayJava.class, "resizes", int.class);
+            ATOMIC_UPDATERS = MethodHandles.lookup().findVarHandle(ByteArrayJava.class, "atomicUpdaters", long[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
     /*
     Constructor
      */
@@ -28,8 +66,13 @@ public class ByteArrayJava {
         }
         if (buff instanceof ByteArrayJava) {
             this.data = buff.data;
+            this.count = buff.count;
+            this.base = buff.base;
+            this.limit = buff.limit;
+            this.growthPolicy = buff.growthPolicy;
+            this.stringCache = buff.stringCache;
         }
-        this.position = 0;
+        this.position = this.base;
         this.nullBytes = 0;
         this.endian = this.BIG_ENDIAN;
     }
@@ -48,17 +91,95 @@ public class ByteArrayJava {
         this.endian = this.BIG_ENDIAN;
     }
     
+    ByteArrayJava(BufferPool pool, int length) {
+        this.pool = pool;
+        this.data = pool.allocate(length);
+        this.position = 0;
+        this.nullBytes = 0;
+        this.endian = this.BIG_ENDIAN;
+    }
+    
+    /*
+    Pooled constructor and release functions
+     */
+    public static ByteArrayJava acquire() {
+        return acquire(BufferPool.getDefault(), 1024);
+    }
+    
+    public static ByteArrayJava acquire(int length) {
+        return acquire(BufferPool.getDefault(), length);
+    }
+    
+    public static ByteArrayJava acquire(BufferPool pool, int length) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool can't be null");
+        }
+        return new ByteArrayJava(pool, length);
+    }
+    
+    public void release() {
+        this.beginResize();
+        try {
+            if (this.pool != null) {
+                this.pool.recycle(this.data);
+                this.pool = null;
+            }
+            this.data = null;
+        } finally {
+            this.endResize();
+        }
+        this.position = 0;
+        this.count = 0;
+    }
+    
+    /*
+    Memory mapped constructor functions
+     */
+    public static MappedByteArray map(Path file) throws IOException {
+        return MappedByteArray.open(file);
+    }
+    
+    public static MappedByteArray map(Path file, long size) throws IOException {
+        return MappedByteArray.open(file, size);
+    }
+    
     /*
     Set, get and constructor functions
      */
     public void clear() {
+        if (this.limit >= 0) {
+            this.position = this.base;
+            return;
+        }
+        if (this.pool != null) {
+            Arrays.fill(this.data, 0, Math.min(Math.max(this.count, this.position), this.length()), (byte) 0);
+        } else {
+            this.beginResize();
+            try {
+                this.data = new byte[this.BUFFER_SIZE];
+            } finally {
+                this.endResize();
+            }
+        }
         this.position = 0;
-        this.data = new byte[this.BUFFER_SIZE];
+        this.count = 0;
     }
     
     public void clear(byte[] data, int position) {
-        this.data = data;
+        this.beginResize();
+        try {
+            if (this.pool != null) {
+                this.pool.recycle(this.data);
+                this.pool = null;
+            }
+            this.data = data;
+        } finally {
+            this.endResize();
+        }
         this.position = position;
+        this.count = data.length;
+        this.base = 0;
+        this.limit = -1;
     }
     
     public void setEndian(boolean e) {
@@ -69,31 +190,281 @@ public class ByteArrayJava {
         return this.endian;
     }
     
+    public int getPosition() {
+        return this.position - this.base;
+    }
+    
+    public void setPosition(int position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position must be positive but got " + position + " instead");
+        }
+        this.position = this.base + position;
+    }
+    
     public int moveLeft(int v) {
-        return this.position -= v;
+        return (this.position -= v) - this.base;
     }
     
     public int moveRight(int v) {
-        return this.position += v;
+        return (this.position += v) - this.base;
+    }
+    
+    public void setGrowthPolicy(GrowthPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Growth policy can't be null");
+        }
+        this.growthPolicy = policy;
+    }
+    
+    public GrowthPolicy getGrowthPolicy() {
+        return this.growthPolicy;
+    }
+    
+    public void setStringCache(StringCache cache) {
+        this.stringCache = cache;
+    }
+    
+    public StringCache getStringCache() {
+        return this.stringCache;
     }
     
     public void grow(int what, int by) {
         this.BUFFER_SIZE = Math.max(this.position + by, this.BUFFER_SIZE);
+        this.ensureWritable(by);
+    }
+    
+    public void ensureWritable(int length) {
+        int required = this.reserve(length);
+        if (required > this.count) {
+            this.count = required;
+        }
+    }
+    
+    int reserve(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must be positive but got " + length + " instead");
+        }
+        if (this.position < this.base) {
+            throw new IllegalArgumentException("Offset is not uint");
+        }
+        int required = this.position + length;
+        if (required < 0) {
+            throw new ArrayIndexOutOfBoundsException("Required capacity exceeds the maximum array size");
+        }
+        if (this.limit >= 0 && required > this.limit) {
+            throw new ArrayIndexOutOfBoundsException("Trying to write beyond the end of the slice");
+        }
+        if (required > this.capacity()) {
+            this.ensureCapacity(required);
+        }
+        return required;
+    }
+    
+    private void ensureCapacity(int minCapacity) {
+        int newCapacity = this.growthPolicy.newCapacity(this.capacity(), minCapacity);
+        if (newCapacity < minCapacity) {
+            throw new ArrayIndexOutOfBoundsException("Buffer can't grow beyond " + newCapacity + " bytes");
+        }
+        this.beginResize();
+        try {
+            if (this.pool != null) {
+                byte[] grown = this.pool.allocate(newCapacity);
+                System.arraycopy(this.data, 0, grown, 0, this.capacity());
+                this.pool.recycle(this.data);
+                this.data = grown;
+            } else {
+                this.data = this.data == null ? new byte[newCapacity] : Arrays.copyOf(this.data, newCapacity);
+            }
+        } finally {
+            this.endResize();
+        }
+    }
+    
+    public void trimToSize() {
+        int size = Math.max(this.count, this.position);
+        if (this.limit < 0 && size < this.capacity()) {
+            this.beginResize();
+            try {
+                byte[] trimmed = Arrays.copyOf(this.data, size);
+                if (this.pool != null) {
+                    this.pool.recycle(this.data);
+                    this.pool = null;
+                }
+                this.data = trimmed;
+            } finally {
+                this.endResize();
+            }
+        }
     }
     
     public int length() {
+        return this.end() - this.base;
+    }
+    
+    private int capacity() {
         return this.data == null ? 0 : this.data.length;
     }
     
+    int end() {
+        return this.limit >= 0 ? this.limit : this.capacity();
+    }
+    
+    int writtenLength() {
+        return Math.min(Math.max(this.count, this.position), this.end()) - this.base;
+    }
+    
+    /*
+    Slice and duplicate functions
+     */
+    ByteArrayJava newView() {
+        return new ByteArrayJava(this);
+    }
+    
+    public ByteArrayJava duplicate() {
+        ByteArrayJava view = this.newView();
+        view.position = this.position;
+        view.endian = this.endian;
+        return view;
+    }
+    
+    public ByteArrayJava slice(int offset, int length) {
+        this.checkRange("Slice", offset, length);
+        ByteArrayJava view = this.newView();
+        view.base = this.base + offset;
+        view.limit = view.base + length;
+        view.position = view.base;
+        view.count = view.limit;
+        view.endian = this.endian;
+        return view;
+    }
+    
+    public ByteArrayJava readSlice(int length) {
+        ByteArrayJava view = this.slice(this.getPosition(), length);
+        this.position += length;
+        return view;
+    }
+    
+    void wrap(byte[] data, int base, int length) {
+        this.data = data;
+        this.base = base;
+        this.limit = base + length;
+        this.position = base;
+        this.count = this.limit;
+    }
+    
+    private void checkRange(String what, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length < 0 || this.base + offset + length > this.end()) {
+            throw new IndexOutOfBoundsException(what + " [" + offset + ", " + (offset + length) + ") is outside of [0, " + this.length() + ")");
+        }
+    }
+    
+    /*
+    Checksum functions, on a range of the buffer in place. Feed the same Checksum every newly written range
+    to keep a running value across writes
+     */
+    public void updateChecksum(Checksum checksum, int offset, int length) {
+        this.checkRange("Range", offset, length);
+        checksum.update(this.data, this.base + offset, length);
+    }
+    
+    public long crc32c(int offset, int length) {
+        CRC32C crc = new CRC32C();
+        this.updateChecksum(crc, offset, length);
+        return crc.getValue();
+    }
+    
+    public long xxHash64(int offset, int length) {
+        return this.xxHash64(offset, length, 0);
+    }
+    
+    public long xxHash64(int offset, int length, long seed) {
+        this.checkRange("Range", offset, length);
+        return XxHash64.hash(this.data, this.base + offset, length, seed);
+    }
+    
+    /*
+    Region functions, on ranges of the buffer in place
+     */
+    public void swapEndian(int offset, int length, int width) {
+        if (width != 2 && width != 4 && width != 8) {
+            throw new IllegalArgumentException("Width must be 2, 4 or 8 but got " + width + " instead");
+        }
+        if (length % width != 0) {
+            throw new IllegalArgumentException("Length must be a multiple of " + width + " but got " + length + " instead");
+        }
+        this.checkRange("Range", offset, length);
+        BulkOps.swap(this.data, this.base + offset, length, width);
+    }
+    
+    public int mismatch(int offset, ByteArrayJava other, int otherOffset, int length) {
+        this.checkRange("Range", offset, length);
+        other.checkRange("Range", otherOffset, length);
+        return BulkOps.mismatch(this.data, this.base + offset, other.data, other.base + otherOffset, length);
+    }
+    
+    public boolean equals(int offset, ByteArrayJava other, int otherOffset, int length) {
+        return this.mismatch(offset, other, otherOffset, length) < 0;
+    }
+    
+    public int compareTo(int offset, int length, ByteArrayJava other, int otherOffset, int otherLength) {
+        this.checkRange("Range", offset, length);
+        other.checkRange("Range", otherOffset, otherLength);
+        int i = BulkOps.mismatch(this.data, this.base + offset, other.data, other.base + otherOffset, Math.min(length, otherLength));
+        if (i < 0) {
+            return Integer.compare(length, otherLength);
+        }
+        // Unsigned, so regions sort the way their bytes do on the wire
+        return Integer.compare(this.data[this.base + offset + i] & 0xff, other.data[other.base + otherOffset + i] & 0xff);
+    }
+    
+    public int indexOf(byte value) {
+        int offset = this.getPosition();
+        return this.indexOf(value, offset, Math.max(this.writtenLength() - offset, 0));
+    }
+    
+    public int indexOf(byte value, int offset, int length) {
+        this.checkRange("Range", offset, length);
+        int i = BulkOps.indexOf(this.data, this.base + offset, this.base + offset + length, value);
+        return i < 0 ? -1 : i - this.base;
+    }
+    
+    public int indexOf(byte[] pattern) {
+        int offset = this.getPosition();
+        return this.indexOf(pattern, offset, Math.max(this.writtenLength() - offset, 0));
+    }
+    
+    public int indexOf(byte[] pattern, int offset, int length) {
+        this.checkRange("Range", offset, length);
+        int i = ByteSearch.indexOf(this.data, this.base + offset, this.base + offset + length, pattern, 0, pattern.length);
+        return i < 0 ? -1 : i - this.base;
+    }
+    
+    /*
+    Unchecked access functions, for trusted code that checks the capacity once per batch
+     */
+    public UncheckedWriter uncheckedWriter() {
+        if (this.uncheckedWriter == null) {
+            this.uncheckedWriter = new UncheckedWriter(this);
+        }
+        return this.uncheckedWriter;
+    }
+    
+    public UncheckedReader uncheckedReader() {
+        if (this.uncheckedReader == null) {
+            this.uncheckedReader = new UncheckedReader(this);
+        }
+        return this.uncheckedReader;
+    }
+    
     /*
     Data retrieval functions
      */
     public int bytesAvailable() {
-        int value = this.length() - this.position;
+        int value = this.end() - this.position;
         if (value > this.length() || value < 0) {
             return 0;
         }
-        if (this.position >= this.length()) {
+        if (this.position >= this.end()) {
             return -1;
         }
         return value;
@@ -112,27 +483,246 @@ public class ByteArrayJava {
     Extra method functions
      */
     public byte atomicCompareAndSwapIntAt(int byteIndex, int expectedValue, int newValue) {
-        byte value = this.data[byteIndex];
-        if (value == expectedValue) {
-            this.data[byteIndex] = (byte) newValue;
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            return (byte) Atomics.compareAndExchange(data, this.atomicIndex(data, byteIndex, 1), 1, expectedValue, newValue, this.endian);
+        } finally {
+            this.exitUpdate(stripe);
         }
-        return value;
     }
     
     public int atomicCompareAndSwapLength(int expectedLength, int newLength) {
-        int prevLength = this.length();
-        if (prevLength != expectedLength) {
+        if (newLength < 0) {
+            throw new IllegalArgumentException("Length must be positive but got " + newLength + " instead");
+        }
+        if (this.limit >= 0) {
+            throw new IllegalStateException("A slice can't be resized");
+        }
+        this.beginResize();
+        try {
+            byte[] current = this.data;
+            int prevLength = current == null ? 0 : current.length;
+            if (prevLength == expectedLength && prevLength != newLength) {
+                this.data = current == null ? new byte[newLength] : Arrays.copyOf(current, newLength);
+            }
             return prevLength;
-        } else if (prevLength < newLength) {
-            this.data = new byte[this.length() + (newLength - prevLength)];
-            int i = 0;
-            for (Byte b : new ArrayList<byte[]>(Arrays.asList(this.data)).toArray(new Byte[this.length() + (newLength - prevLength)])) {
-                this.data[i++] = b.byteValue();
+        } finally {
+            this.endResize();
+        }
+    }
+    
+    /*
+    Atomic functions, offsets are relative to the start of the buffer and ignore the position. Values use
+    the current endian. Updates count themselves on a striped counter, every function that replaces the
+    array waits for the ones in flight and holds new ones off until the copy is published, so none is lost
+    to a resize. Growing is not lock-free, atomic updates wait for the length of the copy
+     */
+    public int getInt8Volatile(int offset) {
+        byte[] data = this.atomicData();
+        return (int) Atomics.getVolatile(data, this.atomicIndex(data, offset, 1), 1, this.endian);
+    }
+    
+    public void setInt8Volatile(int offset, int v) {
+        this.checkAtomic(v, 0x7f, -0x80);
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            Atomics.setVolatile(data, this.atomicIndex(data, offset, 1), 1, v, this.endian);
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    public boolean compareAndSetInt8(int offset, int expectedValue, int newValue) {
+        this.checkAtomic(newValue, 0x7f, -0x80);
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            return Atomics.compareAndExchange(data, this.atomicIndex(data, offset, 1), 1, expectedValue, newValue, this.endian) == expectedValue;
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    public int getAndAddInt8(int offset, int delta) {
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            return (int) Atomics.getAndAdd(data, this.atomicIndex(data, offset, 1), 1, delta, this.endian);
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    public int getInt16Volatile(int offset) {
+        byte[] data = this.atomicData();
+        return (int) Atomics.getVolatile(data, this.atomicIndex(data, offset, 2), 2, this.endian);
+    }
+    
+    public void setInt16Volatile(int offset, int v) {
+        this.checkAtomic(v, 0x7fff, -0x8000);
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            Atomics.setVolatile(data, this.atomicIndex(data, offset, 2), 2, v, this.endian);
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    public boolean compareAndSetInt16(int offset, int expectedValue, int newValue) {
+        this.checkAtomic(newValue, 0x7fff, -0x8000);
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            return Atomics.compareAndExchange(data, this.atomicIndex(data, offset, 2), 2, expectedValue, newValue, this.endian) == expectedValue;
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    public int getAndAddInt16(int offset, int delta) {
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            return (int) Atomics.getAndAdd(data, this.atomicIndex(data, offset, 2), 2, delta, this.endian);
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    public int getInt32Volatile(int offset) {
+        byte[] data = this.atomicData();
+        return (int) Atomics.getVolatile(data, this.atomicIndex(data, offset, 4), 4, this.endian);
+    }
+    
+    public void setInt32Volatile(int offset, int v) {
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            Atomics.setVolatile(data, this.atomicIndex(data, offset, 4), 4, v, this.endian);
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    public boolean compareAndSetInt32(int offset, int expectedValue, int newValue) {
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            return Atomics.compareAndExchange(data, this.atomicIndex(data, offset, 4), 4, expectedValue, newValue, this.endian) == expectedValue;
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    public int getAndAddInt32(int offset, int delta) {
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            return (int) Atomics.getAndAdd(data, this.atomicIndex(data, offset, 4), 4, delta, this.endian);
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    public long getInt64Volatile(int offset) {
+        byte[] data = this.atomicData();
+        return Atomics.getVolatile(data, this.atomicIndex(data, offset, 8), 8, this.endian);
+    }
+    
+    public void setInt64Volatile(int offset, long v) {
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            Atomics.setVolatile(data, this.atomicIndex(data, offset, 8), 8, v, this.endian);
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    public boolean compareAndSetInt64(int offset, long expectedValue, long newValue) {
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            return Atomics.compareAndExchange(data, this.atomicIndex(data, offset, 8), 8, expectedValue, newValue, this.endian) == expectedValue;
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    public long getAndAddInt64(int offset, long delta) {
+        int stripe = this.enterUpdate();
+        try {
+            byte[] data = this.atomicData();
+            return Atomics.getAndAdd(data, this.atomicIndex(data, offset, 8), 8, delta, this.endian);
+        } finally {
+            this.exitUpdate(stripe);
+        }
+    }
+    
+    private byte[] atomicData() {
+        return (byte[]) DATA.getVolatile(this);
+    }
+    
+    private int enterUpdate() {
+        long[] updaters = this.atomicUpdaters;
+        if (updaters == null) {
+            updaters = new long[STRIPES * STRIDE];
+            long[] witness = (long[]) ATOMIC_UPDATERS.compareAndExchange(this, (long[]) null, updaters);
+            if (witness != null) {
+                updaters = witness;
+            }
+        }
+        int stripe = ((int) (Thread.currentThread().getId() * 0x9e3779b97f4a7c15L >>> 32) & STRIPES - 1) * STRIDE;
+        while (true) {
+            UPDATERS.getAndAdd(updaters, stripe, 1L);
+            if ((this.resizes & 1) == 0) {
+                return stripe;
+            }
+            UPDATERS.getAndAdd(updaters, stripe, -1L);
+            while ((this.resizes & 1) != 0) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+    
+    private void exitUpdate(int stripe) {
+        UPDATERS.getAndAdd(this.atomicUpdaters, stripe, -1L);
+    }
+    
+    // An odd count holds new atomic updates off, the ones already counted are waited for before the copy
+    private void beginResize() {
+        int resizes = this.resizes;
+        while ((resizes & 1) != 0 || !RESIZES.compareAndSet(this, resizes, resizes + 1)) {
+            Thread.onSpinWait();
+            resizes = this.resizes;
+        }
+        long[] updaters = this.atomicUpdaters;
+        if (updaters != null) {
+            for (int i = 0; i < updaters.length; i += STRIDE) {
+                while ((long) UPDATERS.getVolatile(updaters, i) != 0) {
+                    Thread.onSpinWait();
+                }
             }
-        } else if (prevLength > newLength) {
-            this.data = Arrays.copyOfRange(this.data, newLength - 1, prevLength - 1);
         }
-        return prevLength;
+    }
+    
+    private void endResize() {
+        this.resizes = this.resizes + 1;
+    }
+    
+    private int atomicIndex(byte[] data, int offset, int width) {
+        int end = this.limit >= 0 ? this.limit : data.length;
+        Objects.checkFromIndexSize(offset, width, end - this.base);
+        return this.base + offset;
+    }
+    
+    private void checkAtomic(int value, int max, int min) {
+        if (value > max || value < min) {
+            throw new ArrayIndexOutOfBoundsException("Value argument is out of bounds");
+        }
     }
     
     /*
@@ -146,21 +736,18 @@ public class ByteArrayJava {
         return builder.toString();
     }
     
-    private void checkInt(int value, int offset, int ext, int max, int min) {
-        this.bytesAvailable();
+    void checkInt(int value, int offset, int ext, int max, int min) {
         if (value > max || value < min) {
             throw new ArrayIndexOutOfBoundsException("Value argument is out of bounds");
         }
-        if (offset + ext > this.length()) {
-            throw new ArrayIndexOutOfBoundsException("Index argument is out of range");
-        }
+        this.ensureWritable(offset + ext - this.position);
     }
     
-    private void checkOffset(int offset, int ext, int length) {
-        if ((offset % 1) != 0 || offset < 0) {
+    void checkReadable(int ext) {
+        if (this.position < this.base) {
             throw new IllegalArgumentException("Offset is not uint");
         }
-        if (offset + ext > length) {
+        if (ext > this.end() - this.position) {
             throw new ArrayIndexOutOfBoundsException("Trying to access beyond buffer length");
         }
     }
@@ -170,13 +757,7 @@ public class ByteArrayJava {
     }
     
     public static byte get7BitValueSize(long value) {
-        long limit = 0x80;
-        byte result = 1;
-        while (value >= limit) {
-            limit <<= 7;
-            ++result;
-        }
-        return result;
+        return ByteOutput.get7BitValueSize(value);
     }
     
     /*
@@ -190,6 +771,7 @@ public class ByteArrayJava {
     }
     
     public void writeRawByte(int v) {
+        this.ensureWritable(1);
         this.data[this.position++] = (byte) v;
     }
     
@@ -219,28 +801,6 @@ public class ByteArrayJava {
         }
     }
     
-    public void writeInt29(int v) {
-        if (v < -0x10000000 || v > 0x0fffffff) {
-            throw new IllegalArgumentException("Integer must be between -0x10000000 and 0x0fffffff but got " + v + " instead");
-        }
-        v += v < 0 ? 0x20000000 : 0;
-        if (v > 0x1fffff) {
-            v >>= 1;
-            this.writeInt8(0x80 | ((v >> 21) & 0xff));
-        }
-        if (v > 0x3fff) {
-            this.writeInt8(0x80 | ((v >> 14) & 0xff));
-        }
-        if (v > 0x7f) {
-            this.writeInt8(0x80 | ((v >> 7) & 0xff));
-        }
-        if (v > 0x1fffff) {
-            this.writeInt8(v & 0xff);
-        } else {
-            this.writeInt8(v & 0x7f);
-        }
-    }
-    
     public void writeInt32(int v) {
         v = +v;
         this.checkInt(v, this.position, 4, 0x7fffffff, -0x80000000);
@@ -260,6 +820,7 @@ public class ByteArrayJava {
     
     public void writeInt40(long v) {
         v = +v;
+        this.ensureWritable(5);
         if (this.endian) {
             this.data[this.position++] = (byte) (v >> 32);
             this.data[this.position++] = (byte) (v >> 24);
@@ -277,6 +838,7 @@ public class ByteArrayJava {
     
     public void writeInt48(long v) {
         v = +v;
+        this.ensureWritable(6);
         if (this.endian) {
             this.data[this.position++] = (byte) (v >> 40);
             this.data[this.position++] = (byte) (v >> 32);
@@ -296,6 +858,7 @@ public class ByteArrayJava {
     
     public void writeInt56(long v) {
         v = +v;
+        this.ensureWritable(7);
         if (this.endian) {
             this.data[this.position++] = (byte) (v >> 48);
             this.data[this.position++] = (byte) (v >> 40);
@@ -317,6 +880,7 @@ public class ByteArrayJava {
     
     public void writeInt64(long v) {
         v = +v;
+        this.ensureWritable(8);
         if (this.endian) {
             this.data[this.position++] = (byte) (v >> 56);
             this.data[this.position++] = (byte) (v >> 48);
@@ -370,29 +934,9 @@ public class ByteArrayJava {
         }
     }
     
-    public void writeUInt29(int v) {
-        if (128 > v) {
-            this.writeInt8(v);
-        } else if (16384 > v) {
-            this.writeInt8(v >>> 7 & 127 | 128);
-            this.writeInt8(v & 127);
-        } else if (2097152 > v) {
-            this.writeInt8(v >>> 14 & 127 | 128);
-            this.writeInt8(v >>> 7 & 127 | 128);
-            this.writeInt8(v & 127);
-        } else if (1073741824 > v) {
-            this.writeInt8(v >>> 22 & 127 | 128);
-            this.writeInt8(v >>> 15 & 127 | 128);
-            this.writeInt8(v >>> 8 & 127 | 128);
-            this.writeInt8(v & 255);
-        } else {
-            throw new IllegalArgumentException("Integer out of range: " + v);
-        }
-    }
-    
     public void writeUInt32(int v) {
         v = +v;
-        this.checkInt(v, this.position, 4, 0xffffffff, 0);
+        this.checkInt(v, this.position, 4, Integer.MAX_VALUE, Integer.MIN_VALUE);
         if (this.endian) {
             this.data[this.position++] = (byte) (v >>> 24);
             this.data[this.position++] = (byte) (v >>> 16);
@@ -408,6 +952,7 @@ public class ByteArrayJava {
     
     public void writeUInt40(long v) {
         v = +v;
+        this.ensureWritable(5);
         if (this.endian) {
             this.data[this.position++] = (byte) (v >>> 32);
             this.data[this.position++] = (byte) (v >>> 24);
@@ -425,6 +970,7 @@ public class ByteArrayJava {
     
     public void writeUInt48(long v) {
         v = +v;
+        this.ensureWritable(6);
         if (this.endian) {
             this.data[this.position++] = (byte) (v >>> 40);
             this.data[this.position++] = (byte) (v >>> 32);
@@ -444,6 +990,7 @@ public class ByteArrayJava {
     
     public void writeUInt56(long v) {
         v = +v;
+        this.ensureWritable(7);
         if (this.endian) {
             this.data[this.position++] = (byte) (v >>> 48);
             this.data[this.position++] = (byte) (v >>> 40);
@@ -465,6 +1012,7 @@ public class ByteArrayJava {
     
     public void writeUInt64(long v) {
         v = +v;
+        this.ensureWritable(8);
         if (this.endian) {
             this.data[this.position++] = (byte) (v >>> 56);
             this.data[this.position++] = (byte) (v >>> 48);
@@ -490,417 +1038,375 @@ public class ByteArrayJava {
     Read int and uint functions
     */
     public int readInt8() {
-        this.checkOffset(this.position, 1, this.length());
+        this.checkReadable(1);
         return this.data[this.position++];
     }
     
     public byte readRawByte() {
+        this.checkReadable(1);
         return this.data[this.position++];
     }
     
     public int readInt16() {
-        this.checkOffset(this.position, 2, this.length());
+        this.checkReadable(2);
         if (this.endian) {
-            return this.data[this.position++] << 8 | this.data[this.position++];
+            return this.data[this.position++] << 8 | this.data[this.position++] & 0xff;
         } else {
-            return this.data[this.position++] | this.data[this.position++] << 8;
+            return this.data[this.position++] & 0xff | this.data[this.position++] << 8;
         }
     }
     
     public int readInt24() {
-        this.checkOffset(this.position, 3, this.length());
+        this.checkReadable(3);
         if (this.endian) {
-            return this.data[this.position++] << 16 | this.data[this.position++] << 8 | this.data[this.position++];
-        } else {
-            return this.data[this.position++] | this.data[this.position++] << 8 | this.data[this.position++] << 16;
-        }
-    }
-    
-    public int readInt29() {
-        int total = this.readInt8();
-        if (total < 128) {
-            return total;
-        }
-        total = (total & 0x7f) << 7;
-        int nextByte = this.readInt8();
-        if (nextByte < 128) {
-            total = total | nextByte;
+            return this.data[this.position++] << 16 | (this.data[this.position++] & 0xff) << 8
+                    | this.data[this.position++] & 0xff;
         } else {
-            total = (total | nextByte & 0x7f) << 7;
-            nextByte = this.readInt8();
-            if (nextByte < 128) {
-                total = total | nextByte;
-            } else {
-                total = (total | nextByte & 0x7f) << 8;
-                nextByte = this.readInt8();
-                total = total | nextByte;
-            }
+            return this.data[this.position++] & 0xff | (this.data[this.position++] & 0xff) << 8
+                    | this.data[this.position++] << 16;
         }
-        int mask = 1 << 28;
-        return -(total & mask) | total;
     }
     
     public int readInt32() {
-        this.checkOffset(this.position, 4, this.length());
+        this.checkReadable(4);
         if (this.endian) {
-            return this.data[this.position++] << 24 | this.data[this.position++] << 16 | this.data[this.position++] << 8
-                    | this.data[this.position++];
+            return this.data[this.position++] << 24 | (this.data[this.position++] & 0xff) << 16
+                    | (this.data[this.position++] & 0xff) << 8 | this.data[this.position++] & 0xff;
         } else {
-            return this.data[this.position++] | this.data[this.position++] << 8 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 24;
+            return this.data[this.position++] & 0xff | (this.data[this.position++] & 0xff) << 8
+                    | (this.data[this.position++] & 0xff) << 16 | this.data[this.position++] << 24;
         }
     }
     
     public long readInt40() {
+        this.checkReadable(5);
         if (this.endian) {
-            return this.data[this.position++] << 32 | this.data[this.position++] << 24 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 8 | this.data[this.position++];
+            return (long) this.data[this.position++] << 32 | (this.data[this.position++] & 0xffL) << 24
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 8
+                    | this.data[this.position++] & 0xffL;
         } else {
-            return this.data[this.position++] | this.data[this.position++] << 8 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 24 | this.data[this.position++] << 32;
+            return this.data[this.position++] & 0xffL | (this.data[this.position++] & 0xffL) << 8
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 24
+                    | (long) this.data[this.position++] << 32;
         }
     }
     
     public long readInt48() {
+        this.checkReadable(6);
         if (this.endian) {
-            return this.data[this.position++] << 40 | this.data[this.position++] << 32 | this.data[this.position++] << 24
-                    | this.data[this.position++] << 16 | this.data[this.position++] << 8 | this.data[this.position++];
+            return (long) this.data[this.position++] << 40 | (this.data[this.position++] & 0xffL) << 32
+                    | (this.data[this.position++] & 0xffL) << 24 | (this.data[this.position++] & 0xffL) << 16
+                    | (this.data[this.position++] & 0xffL) << 8 | this.data[this.position++] & 0xffL;
         } else {
-            return this.data[this.position++] | this.data[this.position++] << 8 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 24 | this.data[this.position++] << 32 | this.data[this.position++] << 40;
+            return this.data[this.position++] & 0xffL | (this.data[this.position++] & 0xffL) << 8
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 24
+                    | (this.data[this.position++] & 0xffL) << 32 | (long) this.data[this.position++] << 40;
         }
     }
     
     public long readInt56() {
+        this.checkReadable(7);
         if (this.endian) {
-            return this.data[this.position++] << 48 | this.data[this.position++] << 40 | this.data[this.position++] << 32
-                    | this.data[this.position++] << 24 | this.data[this.position++] << 16 | this.data[this.position++] << 8
-                    | this.data[this.position++];
+            return (long) this.data[this.position++] << 48 | (this.data[this.position++] & 0xffL) << 40
+                    | (this.data[this.position++] & 0xffL) << 32 | (this.data[this.position++] & 0xffL) << 24
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 8
+                    | this.data[this.position++] & 0xffL;
         } else {
-            return this.data[this.position++] | this.data[this.position++] << 8 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 24 | this.data[this.position++] << 32 | this.data[this.position++] << 40
-                    | this.data[this.position++] << 48;
+            return this.data[this.position++] & 0xffL | (this.data[this.position++] & 0xffL) << 8
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 24
+                    | (this.data[this.position++] & 0xffL) << 32 | (this.data[this.position++] & 0xffL) << 40
+                    | (long) this.data[this.position++] << 48;
         }
     }
     
     public long readInt64() {
+        this.checkReadable(8);
         if (this.endian) {
-            return this.data[this.position++] << 56 | this.data[this.position++] << 48 | this.data[this.position++] << 40
-                    | this.data[this.position++] << 32 | this.data[this.position++] << 24 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 8 | this.data[this.position++];
+            return (long) this.data[this.position++] << 56 | (this.data[this.position++] & 0xffL) << 48
+                    | (this.data[this.position++] & 0xffL) << 40 | (this.data[this.position++] & 0xffL) << 32
+                    | (this.data[this.position++] & 0xffL) << 24 | (this.data[this.position++] & 0xffL) << 16
+                    | (this.data[this.position++] & 0xffL) << 8 | this.data[this.position++] & 0xffL;
         } else {
-            return this.data[this.position++] | this.data[this.position++] << 8 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 24 | this.data[this.position++] << 32 | this.data[this.position++] << 40
-                    | this.data[this.position++] << 48 | this.data[this.position++] << 56;
+            return this.data[this.position++] & 0xffL | (this.data[this.position++] & 0xffL) << 8
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 24
+                    | (this.data[this.position++] & 0xffL) << 32 | (this.data[this.position++] & 0xffL) << 40
+                    | (this.data[this.position++] & 0xffL) << 48 | (long) this.data[this.position++] << 56;
         }
     }
     
     public int readUInt8() {
-        this.checkOffset(this.position, 1, this.length());
+        this.checkReadable(1);
         return this.data[this.position++] & 0xff;
     }
     
     public int readUInt16() {
-        this.checkOffset(this.position, 2, this.length());
+        this.checkReadable(2);
         if (this.endian) {
-            return this.data[this.position++] << 8 | this.data[this.position++] & 0xff;
+            return (this.data[this.position++] & 0xff) << 8 | this.data[this.position++] & 0xff;
         } else {
-            return this.data[this.position++] & 0xff | this.data[this.position++] << 8;
+            return this.data[this.position++] & 0xff | (this.data[this.position++] & 0xff) << 8;
         }
     }
     
     public int readUInt24() {
-        this.checkOffset(this.position, 3, this.length());
+        this.checkReadable(3);
         if (this.endian) {
-            return this.data[this.position++] << 16 | this.data[this.position++] << 8 | this.data[this.position++] & 0xff;
+            return (this.data[this.position++] & 0xff) << 16 | (this.data[this.position++] & 0xff) << 8
+                    | this.data[this.position++] & 0xff;
         } else {
-            return this.data[this.position++] & 0xff | this.data[this.position++] << 8 | this.data[this.position++] << 16;
-        }
-    }
-    
-    public int readUInt29() {
-        int b = this.readUInt8();
-        if (b < 128) {
-            return b;
+            return this.data[this.position++] & 0xff | (this.data[this.position++] & 0xff) << 8
+                    | (this.data[this.position++] & 0xff) << 16;
         }
-        int value = (b & 0x7F) << 7;
-        b = this.readUInt8();
-        if (b < 128) {
-            return (value | b);
-        }
-        value = (value | (b & 0x7F)) << 7;
-        b = this.readUInt8();
-        if (b < 128) {
-            return (value | b);
-        }
-        value = (value | (b & 0x7F)) << 8;
-        b = this.readUInt8();
-        return (value | b);
     }
     
     public int readUInt32() {
-        this.checkOffset(this.position, 4, this.length());
+        this.checkReadable(4);
         if (this.endian) {
-            return this.data[this.position++] << 24 | this.data[this.position++] << 16 | this.data[this.position++] << 8
-                    | this.data[this.position++] & 0xff;
+            return (this.data[this.position++] & 0xff) << 24 | (this.data[this.position++] & 0xff) << 16
+                    | (this.data[this.position++] & 0xff) << 8 | this.data[this.position++] & 0xff;
         } else {
-            return this.data[this.position++] & 0xff | this.data[this.position++] << 8 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 24;
+            return this.data[this.position++] & 0xff | (this.data[this.position++] & 0xff) << 8
+                    | (this.data[this.position++] & 0xff) << 16 | (this.data[this.position++] & 0xff) << 24;
         }
     }
     
     public long readUInt40() {
+        this.checkReadable(5);
         if (this.endian) {
-            return this.data[this.position++] << 32 | this.data[this.position++] << 24 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 8 | this.data[this.position++] & 0xff;
+            return (this.data[this.position++] & 0xffL) << 32 | (this.data[this.position++] & 0xffL) << 24
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 8
+                    | this.data[this.position++] & 0xffL;
         } else {
-            return this.data[this.position++] & 0xff | this.data[this.position++] << 8 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 24 | this.data[this.position++] << 32;
+            return this.data[this.position++] & 0xffL | (this.data[this.position++] & 0xffL) << 8
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 24
+                    | (this.data[this.position++] & 0xffL) << 32;
         }
     }
     
     public long readUInt48() {
+        this.checkReadable(6);
         if (this.endian) {
-            return this.data[this.position++] << 40 | this.data[this.position++] << 32 | this.data[this.position++] << 24
-                    | this.data[this.position++] << 16 | this.data[this.position++] << 8 | this.data[this.position++] & 0xff;
+            return (this.data[this.position++] & 0xffL) << 40 | (this.data[this.position++] & 0xffL) << 32
+                    | (this.data[this.position++] & 0xffL) << 24 | (this.data[this.position++] & 0xffL) << 16
+                    | (this.data[this.position++] & 0xffL) << 8 | this.data[this.position++] & 0xffL;
         } else {
-            return this.data[this.position++] & 0xff | this.data[this.position++] << 8 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 24 | this.data[this.position++] << 32 | this.data[this.position++] << 40;
+            return this.data[this.position++] & 0xffL | (this.data[this.position++] & 0xffL) << 8
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 24
+                    | (this.data[this.position++] & 0xffL) << 32 | (this.data[this.position++] & 0xffL) << 40;
         }
     }
     
     public long readUInt56() {
+        this.checkReadable(7);
         if (this.endian) {
-            return this.data[this.position++] << 48 | this.data[this.position++] << 40 | this.data[this.position++] << 32
-                    | this.data[this.position++] << 24 | this.data[this.position++] << 16 | this.data[this.position++] << 8
-                    | this.data[this.position++] & 0xff;
+            return (this.data[this.position++] & 0xffL) << 48 | (this.data[this.position++] & 0xffL) << 40
+                    | (this.data[this.position++] & 0xffL) << 32 | (this.data[this.position++] & 0xffL) << 24
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 8
+                    | this.data[this.position++] & 0xffL;
         } else {
-            return this.data[this.position++] & 0xff | this.data[this.position++] << 8 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 24 | this.data[this.position++] << 32 | this.data[this.position++] << 40
-                    | this.data[this.position++] << 48;
+            return this.data[this.position++] & 0xffL | (this.data[this.position++] & 0xffL) << 8
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 24
+                    | (this.data[this.position++] & 0xffL) << 32 | (this.data[this.position++] & 0xffL) << 40
+                    | (this.data[this.position++] & 0xffL) << 48;
         }
     }
     
     public long readUInt64() {
+        this.checkReadable(8);
         if (this.endian) {
-            return this.data[this.position++] << 56 | this.data[this.position++] << 48 | this.data[this.position++] << 40
-                    | this.data[this.position++] << 32 | this.data[this.position++] << 24 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 8 | this.data[this.position++] & 0xff;
+            return (this.data[this.position++] & 0xffL) << 56 | (this.data[this.position++] & 0xffL) << 48
+                    | (this.data[this.position++] & 0xffL) << 40 | (this.data[this.position++] & 0xffL) << 32
+                    | (this.data[this.position++] & 0xffL) << 24 | (this.data[this.position++] & 0xffL) << 16
+                    | (this.data[this.position++] & 0xffL) << 8 | this.data[this.position++] & 0xffL;
         } else {
-            return this.data[this.position++] & 0xff | this.data[this.position++] << 8 | this.data[this.position++] << 16
-                    | this.data[this.position++] << 24 | this.data[this.position++] << 32 | this.data[this.position++] << 40
-                    | this.data[this.position++] << 48 | this.data[this.position++] << 56;
+            return this.data[this.position++] & 0xffL | (this.data[this.position++] & 0xffL) << 8
+                    | (this.data[this.position++] & 0xffL) << 16 | (this.data[this.position++] & 0xffL) << 24
+                    | (this.data[this.position++] & 0xffL) << 32 | (this.data[this.position++] & 0xffL) << 40
+                    | (this.data[this.position++] & 0xffL) << 48 | (this.data[this.position++] & 0xffL) << 56;
         }
     }
     
     /*
-    Write IEEE 754 single-precision (32-bit) and IEEE 754 double-precision (64-bit) functions
+    Varint functions, the bounds are checked once per value instead of once per byte. 32-bit values are
+    decoded with an unrolled branch per byte, 64-bit values with a single word load
      */
-    public void writeFloat(float v) {
-        this.writeInt32(Float.floatToIntBits(v));
+    @Override
+    public void writeVarInt32(int value) {
+        this.ensureWritable(VarInts.sizeOf32(value));
+        this.position = VarInts.putVarInt32(this.data, this.position, value);
     }
     
-    public void writeDouble(double v) {
-        this.writeInt64(Double.doubleToLongBits(v));
+    @Override
+    public void writeVarInt64(long value) {
+        this.ensureWritable(VarInts.sizeOf64(value));
+        this.position = VarInts.putVarInt64(this.data, this.position, value);
     }
     
-    /*
-    Reads IEEE 754 single-precision (32-bit) and IEEE 754 double-precision (64-bit) functions
-     */
-    public double readDouble() {
-        return Double.longBitsToDouble(this.readInt64());
+    @Override
+    public int readVarInt32() {
+        int index = this.position;
+        if (index >= this.base && this.end() - index >= 5) {
+            byte[] data = this.data;
+            int x;
+            if ((x = data[index++]) >= 0) {
+                this.position = index;
+                return x;
+            } else if ((x ^= data[index++] << 7) < 0) {
+                x ^= ~0 << 7;
+            } else if ((x ^= data[index++] << 14) >= 0) {
+                x ^= ~0 << 7 ^ ~0 << 14;
+            } else if ((x ^= data[index++] << 21) < 0) {
+                x ^= ~0 << 7 ^ ~0 << 14 ^ ~0 << 21;
+            } else {
+                int y = data[index++];
+                if (y < 0) {
+                    return ByteArray.super.readVarInt32();
+                }
+                x ^= y << 28 ^ ~0 << 7 ^ ~0 << 14 ^ ~0 << 21 ^ ~0 << 28;
+            }
+            this.position = index;
+            return x;
+        }
+        return ByteArray.super.readVarInt32(); // Near the end or more than 5 bytes
     }
     
-    public float readFloat() {
-        return Float.intBitsToFloat(this.readInt32());
+    @Override
+    public long readVarInt64() {
+        int index = this.position;
+        if (index >= this.base && this.end() - index >= 10) {
+            byte first = this.data[index];
+            if (first >= 0) {
+                this.position = index + 1;
+                return first;
+            }
+            int length = VarInts.length64(this.data, index);
+            this.position = index + length;
+            return VarInts.getVarInt64(this.data, index, length);
+        }
+        return ByteArray.super.readVarInt64();
     }
     
     /*
-    Writing varint and varuint functions
+    Array functions, the bounds are checked once per array
      */
-    public void write7BitEncodedInt(int value) {
-        byte shift = (byte) ((this.get7BitValueSize(value) - 1) * 7);
-        boolean max = false;
-        if (shift >= 21) {
-            shift = 22;
-            max = true;
-        }
-        while (shift >= 7) {
-            this.writeInt8((0x80 | ((value >> shift) & 0x7F)));
-            shift -= 7;
-        }
-        this.writeInt8((max ? (value & 0xFF) : (value & 0x7F)));
+    @Override
+    public void writeInt32Array(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.ensureWritable(this.arrayBytes(length, 4));
+        ByteViews.putInts(this.data, this.position, values, offset, length, this.endian);
+        this.position += length << 2;
     }
     
-    public void write7BitEncodedLong(long value) {
-        byte shift = (byte) ((this.get7BitValueSize(value) - 1) * 7);
-        boolean max = (shift >= 63);
-        if (max) {
-            shift++;
-        }
-        while (shift >= 7) {
-            this.writeInt8((byte) (0x80 | ((value >> shift) & 0x7F)));
-            shift -= 7;
-        }
-        this.writeInt8((byte) (max ? (value & 0xFF) : (value & 0x7F)));
+    @Override
+    public void writeInt64Array(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.ensureWritable(this.arrayBytes(length, 8));
+        ByteViews.putLongs(this.data, this.position, values, offset, length, this.endian);
+        this.position += length << 3;
     }
     
-    public void writeVarInt32(int value) {
-        while (true) {
-            if ((value & ~0x7F) == 0) {
-                this.writeInt8(value);
-                return;
-            } else {
-                this.writeInt8((value & 0x7F) | 0x80);
-                value >>>= 7;
-            }
-        }
+    @Override
+    public void writeFloatArray(float[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.ensureWritable(this.arrayBytes(length, 4));
+        ByteViews.putFloats(this.data, this.position, values, offset, length, this.endian);
+        this.position += length << 2;
     }
     
-    public void writeVarInt64(long value) {
-        while (true) {
-            if ((value & ~0x7F) == 0) {
-                this.writeInt8((int) value);
-                return;
-            } else {
-                this.writeInt8(((int) value & 0x7F) | 0x80);
-                value >>>= 7;
-            }
+    @Override
+    public void writeDoubleArray(double[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.ensureWritable(this.arrayBytes(length, 8));
+        ByteViews.putDoubles(this.data, this.position, values, offset, length, this.endian);
+        this.position += length << 3;
+    }
+    
+    @Override
+    public void writeVarInt32Array(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long size = 0;
+        for (int i = 0; i < length; i++) {
+            size += VarInts.sizeOf32(values[offset + i]);
         }
+        this.ensureWritable(this.arrayBytes(size));
+        int index = this.position;
+        for (int i = 0; i < length; i++) {
+            index = VarInts.putVarInt32(this.data, index, values[offset + i]);
+        }
+        this.position = index;
     }
     
-    public void writeVarUInt32(int value) {
-        this.writeVarInt32(value << 1 ^ value >> 31); // EncodeZigZag32
+    @Override
+    public void writeVarInt64Array(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long size = 0;
+        for (int i = 0; i < length; i++) {
+            size += VarInts.sizeOf64(values[offset + i]);
+        }
+        this.ensureWritable(this.arrayBytes(size));
+        int index = this.position;
+        for (int i = 0; i < length; i++) {
+            index = VarInts.putVarInt64(this.data, index, values[offset + i]);
+        }
+        this.position = index;
     }
     
-    public void writeVarUInt64(long value) {
-        this.writeVarInt64(value << 1 ^ value >> 63); // EncodeZigZag64
+    @Override
+    public void readInt32Array(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.checkReadable(this.arrayBytes(length, 4));
+        ByteViews.getInts(this.data, this.position, values, offset, length, this.endian);
+        this.position += length << 2;
     }
     
-    /*
-    Reading varint and varuint functions
-     */
-    public int read7BitEncodedInt() {
-        int n = 0;
-        int b = this.readUInt8();
-        int result = 0;
-        while (b >= 128 && n < 3) {
-            result <<= 7;
-            result |= (b & 0x7F);
-            b = this.readUInt8();
-            ++n;
-        }
-        result <<= ((n < 3) ? 7 : 8);
-        result |= b;
-        return result;
-    }
-    
-    public long read7BitEncodedLong() {
-        int n = 0;
-        int b = this.readUInt8();
-        long result = 0;
-        while (b >= 128 && n < 8) {
-            result <<= 7;
-            result |= (b & 0x7F);
-            b = this.readUInt8();
-            ++n;
-        }
-        result <<= ((n < 8) ? 7 : 8);
-        result |= b;
-        return result;
+    @Override
+    public void readInt64Array(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.checkReadable(this.arrayBytes(length, 8));
+        ByteViews.getLongs(this.data, this.position, values, offset, length, this.endian);
+        this.position += length << 3;
     }
     
-    public int readVarInt32() {
-        byte tmp = (byte) this.readInt8();
-        if (tmp >= 0) {
-            return tmp;
-        }
-        int result = tmp & 0x7f;
-        if ((tmp = (byte) this.readInt8()) >= 0) {
-            result |= tmp << 7;
-        } else {
-            result |= (tmp & 0x7f) << 7;
-            if ((tmp = (byte) this.readInt8()) >= 0) {
-                result |= tmp << 14;
-            } else {
-                result |= (tmp & 0x7f) << 14;
-                if ((tmp = (byte) this.readInt8()) >= 0) {
-                    result |= tmp << 21;
-                } else {
-                    result |= (tmp & 0x7f) << 21;
-                    result |= (tmp = (byte) this.readInt8()) << 28;
-                    if (tmp < 0) {
-                        // Discard upper 32 bits.
-                        for (int i = 0; i < 5; i++) {
-                            if (this.readInt8() >= 0) {
-                                return result;
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        return result;
+    @Override
+    public void readFloatArray(float[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.checkReadable(this.arrayBytes(length, 4));
+        ByteViews.getFloats(this.data, this.position, values, offset, length, this.endian);
+        this.position += length << 2;
     }
     
-    public long readVarInt64() {
-        int shift = 0;
-        long result = 0;
-        while (shift < 64) {
-            final byte b = (byte) this.readInt8();
-            result |= (long) (b & 0x7F) << shift;
-            if ((b & 0x80) == 0) {
-                return result;
-            }
-            shift += 7;
-        }
-        return result;
+    @Override
+    public void readDoubleArray(double[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.checkReadable(this.arrayBytes(length, 8));
+        ByteViews.getDoubles(this.data, this.position, values, offset, length, this.endian);
+        this.position += length << 3;
     }
     
-    public int readVarUInt32() {
-        return this.readVarInt32() >>> 1 ^ -(this.readVarInt32() & 1); // DecodeZigZag32
+    private int arrayBytes(int length, int width) {
+        return this.arrayBytes((long) length * width);
     }
     
-    public long readVarUInt64() {
-        return this.readVarInt64() >>> 1 ^ -(this.readVarInt64() & 1L); // DecodeZigZag64
+    private int arrayBytes(long size) {
+        if (size > Integer.MAX_VALUE) {
+            throw new ArrayIndexOutOfBoundsException("Required capacity exceeds the maximum array size");
+        }
+        return (int) size;
     }
     
     /*
     Extra write functions
      */
+    @Override
     public void writeUTF(String s) throws UTFDataFormatException {
-        int utfLength = 0;
-        for (int i = 0; i < s.length(); i++) {
-            char ch = s.charAt(i);
-            if (ch > 0 && ch < 0x80) {
-                utfLength++;
-            } else if (ch == 0 || (ch >= 0x80 && ch < 0x800)) {
-                utfLength += 2;
-            } else {
-                utfLength += 3;
-            }
-        }
-        if (utfLength > 65535) {
-            throw new UTFDataFormatException();
-        }
-        this.writeInt16(utfLength);
-        for (int i = 0; i < s.length(); i++) {
-            int ch = s.charAt(i);
-            if (ch > 0 && ch < 0x80) {
-                this.writeInt8(ch);
-            } else if (ch == 0 || (ch >= 0x80 && ch < 0x800)) {
-                this.writeInt8(0xc0 | (0x1f & (ch >> 6)));
-                this.writeInt8(0x80 | (0x3f & ch));
-            } else {
-                this.writeInt8(0xe0 | (0x0f & (ch >> 12)));
-                this.writeInt8(0x80 | (0x3f & (ch >> 6)));
-                this.writeInt8(0x80 | (0x3f & ch));
-            }
-        }
+        int utfLength = StringCodec.utfLength(s);
+        this.ensureWritable(2 + utfLength);
+        ByteViews.putShort(this.data, this.position, utfLength, this.endian);
+        this.position = StringCodec.putUTF(this.data, this.position + 2, s, utfLength);
     }
     
     public void writeMultiByte(String v, String charset) {
-        Charset cs = Charset.forName(charset);
+        Charset cs = StringCodec.charset(charset);
         if (this.endian) {
             if (charset.equals("UTF-16LE") || charset.equals("UTF-32LE")) {
                 throw new IllegalArgumentException("Unmatched charset for current endian"); // Using Big endian but trying to use Little endian
@@ -912,18 +1418,23 @@ public class ByteArrayJava {
                 // charset
             }
         }
-        this.writeInt8Array(v.getBytes(cs)); // Converts the string into bytes
+        int start = this.position;
+        int length = StringCodec.encodedLength(v, cs);
+        if (length >= 0) { // Encoded straight into the backing array
+            this.ensureWritable(length);
+            this.position = StringCodec.encode(v, cs, this.data, this.position);
+        } else {
+            StringCodec codec = StringCodec.local();
+            length = codec.encode(v, cs);
+            this.writeBytes(codec.bytes(), 0, length);
+        }
+        this.nullBytes += BulkOps.countZeros(this.data, start, this.position);
     }
     
     public void writeInt8Array(byte[] v) {
-        int var3 = v.length;
-        for (int var4 = 0; var4 < var3; ++var4) {
-            byte element$iv = v[var4];
-            this.writeInt8(element$iv);
-            if (this.data[var4] == 0) {
-                this.nullBytes++;
-            }
-        }
+        int start = this.position;
+        this.writeBytes(v, 0, v.length);
+        this.nullBytes += BulkOps.countZeros(this.data, start, this.position);
     }
     
     public void writeBytes(byte bytes[], int offset, int length) {
@@ -932,60 +1443,67 @@ public class ByteArrayJava {
         } else if (length == 0) {
             return;
         }
+        this.ensureWritable(length);
         System.arraycopy(bytes, offset, this.data, this.position, length);
         this.position = this.position + length;
     }
     
-    public void writeBoolean(boolean v) {
-        if (v) {
-            this.writeInt8(1);
-        } else {
-            this.writeInt8(0);
-        }
-    }
-    
     /*
     Extra read functions
      */
-    public String readUTF() throws UTFDataFormatException {
-        int utfLength = this.readInt16() & 0xffff;
-        int goalPosition = this.position + utfLength;
-        StringBuffer string = new StringBuffer(utfLength);
-        while (this.position < goalPosition) {
-            int a = this.readInt8() & 0xff;
-            if ((a & 0x80) == 0) {
-                string.append((char) a);
-            } else {
-                int b = this.readInt8() & 0xff;
-                if ((b & 0xc0) != 0x80) {
-                    throw new UTFDataFormatException();
-                }
-                if ((a & 0xe0) == 0xc0) {
-                    char ch = (char) (((a & 0x1f) << 6) | (b & 0x3f));
-                    string.append(ch);
-                } else if ((a & 0xf0) == 0xe0) {
-                    int c = this.readInt8() & 0xff;
-                    if ((c & 0xc0) != 0x80) {
-                        throw new UTFDataFormatException();
-                    }
-                    char ch = (char) (((a & 0x0f) << 12) | ((b & 0x3f) << 6) | (c & 0x3f));
-                    string.append(ch);
-                } else {
-                    throw new UTFDataFormatException();
-                }
-            }
-        }
-        return string.toString();
-    }
-    
     public List<Character> readMultiByte(int length) {
         List<Character> array = new ArrayList<Character>();
         for (int i = 0; i < length; i++) {
-            array.add((char) this.data[i]);
+            array.add((char) this.data[this.base + i]);
         }
         return array;
     }
     
+    @Override
+    public String readUTF() throws UTFDataFormatException {
+        int utfLength = this.readUInt16();
+        this.checkReadable(utfLength);
+        String v = this.stringCache != null ? this.stringCache.get(this.data, this.position, utfLength) : StringCodec.getUTF(this.data, this.position, utfLength);
+        this.position += utfLength;
+        return v;
+    }
+    
+    @Override
+    public void readUTF(StringBuilder out) throws UTFDataFormatException {
+        int utfLength = this.readUInt16();
+        this.checkReadable(utfLength);
+        StringCodec.getUTF(this.data, this.position, utfLength, out);
+        this.position += utfLength;
+    }
+    
+    @Override
+    public int readUTF(char[] chars, int offset) throws UTFDataFormatException {
+        int utfLength = this.readUInt16();
+        this.checkReadable(utfLength);
+        int n = StringCodec.getUTF(this.data, this.position, utfLength, chars, offset);
+        this.position += utfLength;
+        return n;
+    }
+    
+    @Override
+    public String readMultiByte(int length, String charset) {
+        this.checkReadable(length);
+        String v = new String(this.data, this.position, length, StringCodec.charset(charset));
+        this.position += length;
+        return v;
+    }
+    
+    @Override
+    public void readMultiByte(int length, String charset, StringBuilder out) {
+        this.checkReadable(length);
+        if (this.dataBuffer == null || this.dataBuffer.array() != this.data) {
+            this.dataBuffer = ByteBuffer.wrap(this.data);
+        }
+        this.dataBuffer.limit(this.position + length).position(this.position);
+        StringCodec.local().decode(this.dataBuffer, StringCodec.charset(charset), out);
+        this.position += length;
+    }
+    
     public List<Integer> readInt8Array(int length) {
         ArrayList<Integer> array = new ArrayList<Integer>();
         for (int i = 0; i < length; i++) {
@@ -995,15 +1513,12 @@ public class ByteArrayJava {
     }
     
     public byte[] readBytes(int length) {
+        this.checkReadable(length);
         byte bytes[] = Arrays.copyOfRange(this.data, this.position, this.position + length);
         this.position += length;
         return bytes;
     }
     
-    public boolean readBoolean() {
-        return this.readInt8() == 1;
-    }
-    
     public static void main(String[] args) throws UTFDataFormatException {
         ByteArrayJava wba = new ByteArrayJava();
         wba.writeBoolean(true);
@@ -0,0 +1,312 @@
+package com.Zaseth;
+
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/*
+Read half of the buffer API. Implementations provide the fixed width primitives, the variable length
+encodings are built on top of them and can be overridden with faster versions
+ */
+public interface ByteInput {
+    
+    /*
+    Set and get functions
+     */
+    boolean getEndian();
+    
+    /*
+    Read int and uint functions
+     */
+    int readInt8();
+    
+    byte readRawByte();
+    
+    int readInt16();
+    
+    int readInt24();
+    
+    int readInt32();
+    
+    long readInt40();
+    
+    long readInt48();
+    
+    long readInt56();
+    
+    long readInt64();
+    
+    int readUInt8();
+    
+    int readUInt16();
+    
+    int readUInt24();
+    
+    int readUInt32();
+    
+    long readUInt40();
+    
+    long readUInt48();
+    
+    long readUInt56();
+    
+    long readUInt64();
+    
+    default int readInt29() {
+        int total = this.readUInt8();
+        if (total < 128) {
+            return total;
+        }
+        total = (total & 0x7f) << 7;
+        int nextByte = this.readUInt8();
+        if (nextByte < 128) {
+            total = total | nextByte;
+        } else {
+            total = (total | nextByte & 0x7f) << 7;
+            nextByte = this.readUInt8();
+            if (nextByte < 128) {
+                total = total | nextByte;
+            } else {
+                total = (total | nextByte & 0x7f) << 8;
+                nextByte = this.readUInt8();
+                total = total | nextByte;
+            }
+        }
+        int mask = 1 << 28;
+        return -(total & mask) | total;
+    }
+    
+    default int readUInt29() {
+        int b = this.readUInt8();
+        if (b < 128) {
+            return b;
+        }
+        int value = (b & 0x7F) << 7;
+        b = this.readUInt8();
+        if (b < 128) {
+            return (value | b);
+        }
+        value = (value | (b & 0x7F)) << 7;
+        b = this.readUInt8();
+        if (b < 128) {
+            return (value | b);
+        }
+        value = (value | (b & 0x7F)) << 8;
+        b = this.readUInt8();
+        return (value | b);
+    }
+    
+    /*
+    Reads IEEE 754 single-precision (32-bit) and IEEE 754 double-precision (64-bit) functions
+     */
+    default double readDouble() {
+        return Double.longBitsToDouble(this.readInt64());
+    }
+    
+    default float readFloat() {
+        return Float.intBitsToFloat(this.readInt32());
+    }
+    
+    /*
+    Reading varint and varuint functions
+     */
+    default int read7BitEncodedInt() {
+        int n = 0;
+        int b = this.readUInt8();
+        int result = 0;
+        while (b >= 128 && n < 3) {
+            result <<= 7;
+            result |= (b & 0x7F);
+            b = this.readUInt8();
+            ++n;
+        }
+        result <<= ((n < 3) ? 7 : 8);
+        result |= b;
+        return result;
+    }
+    
+    default long read7BitEncodedLong() {
+        int n = 0;
+        int b = this.readUInt8();
+        long result = 0;
+        while (b >= 128 && n < 8) {
+            result <<= 7;
+            result |= (b & 0x7F);
+            b = this.readUInt8();
+            ++n;
+        }
+        result <<= ((n < 8) ? 7 : 8);
+        result |= b;
+        return result;
+    }
+    
+    default int readVarInt32() {
+        byte tmp = (byte) this.readInt8();
+        if (tmp >= 0) {
+            return tmp;
+        }
+        int result = tmp & 0x7f;
+        if ((tmp = (byte) this.readInt8()) >= 0) {
+            result |= tmp << 7;
+        } else {
+            result |= (tmp & 0x7f) << 7;
+            if ((tmp = (byte) this.readInt8()) >= 0) {
+                result |= tmp << 14;
+            } else {
+                result |= (tmp & 0x7f) << 14;
+                if ((tmp = (byte) this.readInt8()) >= 0) {
+                    result |= tmp << 21;
+                } else {
+                    result |= (tmp & 0x7f) << 21;
+                    result |= (tmp = (byte) this.readInt8()) << 28;
+                    if (tmp < 0) {
+                        // Discard upper 32 bits.
+                        for (int i = 0; i < 5; i++) {
+                            if (this.readInt8() >= 0) {
+                                return result;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
+    default long readVarInt64() {
+        int shift = 0;
+        long result = 0;
+        while (shift < 64) {
+            final byte b = (byte) this.readInt8();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+        return result;
+    }
+    
+    default int readVarUInt32() {
+        int value = this.readVarInt32();
+        return value >>> 1 ^ -(value & 1); // DecodeZigZag32
+    }
+    
+    default long readVarUInt64() {
+        long value = this.readVarInt64();
+        return value >>> 1 ^ -(value & 1L); // DecodeZigZag64
+    }
+    
+    /*
+    Reading array functions
+     */
+    default void readInt32Array(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            values[offset + i] = this.readInt32();
+        }
+    }
+    
+    default void readInt64Array(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            values[offset + i] = this.readInt64();
+        }
+    }
+    
+    default void readFloatArray(float[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            values[offset + i] = this.readFloat();
+        }
+    }
+    
+    default void readDoubleArray(double[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            values[offset + i] = this.readDouble();
+        }
+    }
+    
+    default void readVarInt32Array(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            values[offset + i] = this.readVarInt32();
+        }
+    }
+    
+    default void readVarInt64Array(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            values[offset + i] = this.readVarInt64();
+        }
+    }
+    
+    default int[] readInt32Array(int length) {
+        int[] values = new int[length];
+        this.readInt32Array(values, 0, length);
+        return values;
+    }
+    
+    default long[] readInt64Array(int length) {
+        long[] values = new long[length];
+        this.readInt64Array(values, 0, length);
+        return values;
+    }
+    
+    default float[] readFloatArray(int length) {
+        float[] values = new float[length];
+        this.readFloatArray(values, 0, length);
+        return values;
+    }
+    
+    default double[] readDoubleArray(int length) {
+        double[] values = new double[length];
+        this.readDoubleArray(values, 0, length);
+        return values;
+    }
+    
+    default int[] readVarInt32Array(int length) {
+        int[] values = new int[length];
+        this.readVarInt32Array(values, 0, length);
+        return values;
+    }
+    
+    default long[] readVarInt64Array(int length) {
+        long[] values = new long[length];
+        this.readVarInt64Array(values, 0, length);
+        return values;
+    }
+    
+    /*
+    Extra read functions
+     */
+    default String readUTF() throws UTFDataFormatException {
+        int utfLength = this.readUInt16();
+        return StringCodec.getUTF(this.readBytes(utfLength), 0, utfLength);
+    }
+    
+    default void readUTF(StringBuilder out) throws UTFDataFormatException {
+        int utfLength = this.readUInt16();
+        StringCodec.getUTF(this.readBytes(utfLength), 0, utfLength, out);
+    }
+    
+    default int readUTF(char[] chars, int offset) throws UTFDataFormatException {
+        int utfLength = this.readUInt16();
+        return StringCodec.getUTF(this.readBytes(utfLength), 0, utfLength, chars, offset);
+    }
+    
+    default String readMultiByte(int length, String charset) {
+        return new String(this.readBytes(length), StringCodec.charset(charset));
+    }
+    
+    default void readMultiByte(int length, String charset, StringBuilder out) {
+        StringCodec.local().decode(ByteBuffer.wrap(this.readBytes(length)), StringCodec.charset(charset), out);
+    }
+    
+    byte[] readBytes(int length);
+    
+    default boolean readBoolean() {
+        return this.readInt8() == 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+package com.Zaseth;
+
+import java.io.UTFDataFormatException;
+import java.util.Objects;
+
+/*
+Write half of the buffer API. Implementations provide the fixed width primitives, the variable length
+encodings are built on top of them and can be overridden with faster versions
+ */
+public interface ByteOutput {
+    
+    /*
+    Set and get functions
+     */
+    boolean getEndian();
+    
+    /*
+    Writing int and uint functions
+     */
+    void writeInt8(int v);
+    
+    void writeRawByte(int v);
+    
+    void writeInt16(int v);
+    
+    void writeInt24(int v);
+    
+    void writeInt32(int v);
+    
+    void writeInt40(long v);
+    
+    void writeInt48(long v);
+    
+    void writeInt56(long v);
+    
+    void writeInt64(long v);
+    
+    void writeUInt8(int v);
+    
+    void writeUInt16(int v);
+    
+    void writeUInt24(int v);
+    
+    void writeUInt32(int v);
+    
+    void writeUInt40(long v);
+    
+    void writeUInt48(long v);
+    
+    void writeUInt56(long v);
+    
+    void writeUInt64(long v);
+    
+    default void writeInt29(int v) {
+        if (v < -0x10000000 || v > 0x0fffffff) {
+            throw new IllegalArgumentException("Integer must be between -0x10000000 and 0x0fffffff but got " + v + " instead");
+        }
+        v += v < 0 ? 0x20000000 : 0;
+        if (v > 0x1fffff) {
+            this.writeUInt8(0x80 | ((v >> 22) & 0xff));
+            this.writeUInt8(0x80 | ((v >> 15) & 0xff));
+            this.writeUInt8(0x80 | ((v >> 8) & 0xff));
+            this.writeUInt8(v & 0xff);
+            return;
+        }
+        if (v > 0x3fff) {
+            this.writeUInt8(0x80 | ((v >> 14) & 0xff));
+        }
+        if (v > 0x7f) {
+            this.writeUInt8(0x80 | ((v >> 7) & 0xff));
+        }
+        this.writeUInt8(v & 0x7f);
+    }
+    
+    default void writeUInt29(int v) {
+        if (128 > v) {
+            this.writeUInt8(v);
+        } else if (16384 > v) {
+            this.writeUInt8(v >>> 7 & 127 | 128);
+            this.writeUInt8(v & 127);
+        } else if (2097152 > v) {
+            this.writeUInt8(v >>> 14 & 127 | 128);
+            this.writeUInt8(v >>> 7 & 127 | 128);
+            this.writeUInt8(v & 127);
+        } else if (1073741824 > v) {
+            this.writeUInt8(v >>> 22 & 127 | 128);
+            this.writeUInt8(v >>> 15 & 127 | 128);
+            this.writeUInt8(v >>> 8 & 127 | 128);
+            this.writeUInt8(v & 255);
+        } else {
+            throw new IllegalArgumentException("Integer out of range: " + v);
+        }
+    }
+    
+    /*
+    Write IEEE 754 single-precision (32-bit) and IEEE 754 double-precision (64-bit) functions
+     */
+    default void writeFloat(float v) {
+        this.writeInt32(Float.floatToIntBits(v));
+    }
+    
+    default void writeDouble(double v) {
+        this.writeInt64(Double.doubleToLongBits(v));
+    }
+    
+    /*
+    Writing varint and varuint functions
+     */
+    default void write7BitEncodedInt(int value) {
+        byte shift = (byte) ((ByteOutput.get7BitValueSize(value) - 1) * 7);
+        boolean max = false;
+        if (shift >= 21) {
+            shift = 22;
+            max = true;
+        }
+        while (shift >= 7) {
+            this.writeUInt8((0x80 | ((value >> shift) & 0x7F)));
+            shift -= 7;
+        }
+        this.writeUInt8((max ? (value & 0xFF) : (value & 0x7F)));
+    }
+    
+    default void write7BitEncodedLong(long value) {
+        byte shift = (byte) ((ByteOutput.get7BitValueSize(value) - 1) * 7);
+        boolean max = (shift >= 56);
+        if (max) {
+            shift++;
+        }
+        while (shift >= 7) {
+            this.writeUInt8((int) (0x80 | ((value >> shift) & 0x7F)));
+            shift -= 7;
+        }
+        this.writeUInt8((int) (max ? (value & 0xFF) : (value & 0x7F)));
+    }
+    
+    default void writeVarInt32(int value) {
+        while (true) {
+            if ((value & ~0x7F) == 0) {
+                this.writeUInt8(value);
+                return;
+            } else {
+                this.writeUInt8((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+        }
+    }
+    
+    default void writeVarInt64(long value) {
+        while (true) {
+            if ((value & ~0x7F) == 0) {
+                this.writeUInt8((int) value);
+                return;
+            } else {
+                this.writeUInt8(((int) value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+        }
+    }
+    
+    default void writeVarUInt32(int value) {
+        this.writeVarInt32(value << 1 ^ value >> 31); // EncodeZigZag32
+    }
+    
+    default void writeVarUInt64(long value) {
+        this.writeVarInt64(value << 1 ^ value >> 63); // EncodeZigZag64
+    }
+    
+    /*
+    Writing array functions
+     */
+    default void writeInt32Array(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            this.writeInt32(values[offset + i]);
+        }
+    }
+    
+    default void writeInt64Array(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            this.writeInt64(values[offset + i]);
+        }
+    }
+    
+    default void writeFloatArray(float[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            this.writeFloat(values[offset + i]);
+        }
+    }
+    
+    default void writeDoubleArray(double[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            this.writeDouble(values[offset + i]);
+        }
+    }
+    
+    default void writeVarInt32Array(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            this.writeVarInt32(values[offset + i]);
+        }
+    }
+    
+    default void writeVarInt64Array(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        for (int i = 0; i < length; i++) {
+            this.writeVarInt64(values[offset + i]);
+        }
+    }
+    
+    /*
+    Extra write functions
+     */
+    default void writeUTF(String s) throws UTFDataFormatException {
+        int utfLength = StringCodec.utfLength(s);
+        StringCodec codec = StringCodec.local();
+        byte[] bytes = codec.bytes(utfLength);
+        StringCodec.putUTF(bytes, 0, s, utfLength);
+        this.writeUInt16(utfLength);
+        this.writeBytes(bytes, 0, utfLength);
+    }
+    
+    default void writeMultiByte(String v, String charset) {
+        if (this.getEndian()) {
+            if (charset.equals("UTF-16LE") || charset.equals("UTF-32LE")) {
+                throw new IllegalArgumentException("Unmatched charset for current endian");
+            }
+        } else {
+            if (charset.equals("UTF-16BE") || charset.equals("UTF-32BE")) {
+                throw new IllegalArgumentException("Unmatched charset for current endian");
+            }
+        }
+        StringCodec codec = StringCodec.local();
+        int length = codec.encode(v, StringCodec.charset(charset));
+        this.writeBytes(codec.bytes(), 0, length);
+    }
+    
+    void writeBytes(byte bytes[], int offset, int length);
+    
+    default void writeBoolean(boolean v) {
+        if (v) {
+            this.writeInt8(1);
+        } else {
+            this.writeInt8(0);
+        }
+    }
+    
+    /*
+    Help functions
+     */
+    static byte get7BitValueSize(long value) {
+        long limit = 0x80;
+        byte result = 1;
+        while (limit > 0 && value >= limit) {
+            limit <<= 7;
+            ++result;
+        }
+        return result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.Zaseth;
+
+import java.util.Arrays;
+
+/*
+Pattern search over a byte array. Short patterns scan for their first byte and compare the rest, longer ones
+use Boyer-Moore-Horspool, which looks at the byte under the end of the pattern and skips ahead by up to the
+pattern length at a time. The skip table is kept per thread
+ */
+final class ByteSearch {
+    
+    private static final int MIN_SKIP_LENGTH = 8;
+    
+    private static final ThreadLocal<int[]> SKIPS = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[256];
+        }
+    };
+    
+    private ByteSearch() {}
+    
+    static int indexOf(byte[] data, int from, int to, byte[] pattern, int offset, int length) {
+        if (length == 0) {
+            return from;
+        }
+        if (length > to - from) {
+            return -1;
+        }
+        return length < MIN_SKIP_LENGTH ? scan(data, from, to, pattern, offset, length) : horspool(data, from, to, pattern, offset, length);
+    }
+    
+    private static int scan(byte[] data, int from, int to, byte[] pattern, int offset, int length) {
+        byte first = pattern[offset];
+        int last = to - length;
+        for (int i = from; i <= last; i++) {
+            i = BulkOps.indexOf(data, i, last + 1, first);
+            if (i < 0) {
+                return -1;
+            }
+            if (BulkOps.mismatch(data, i + 1, pattern, offset + 1, length - 1) < 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private static int horspool(byte[] data, int from, int to, byte[] pattern, int offset, int length) {
+        int[] skips = SKIPS.get();
+        Arrays.fill(skips, length);
+        for (int i = 0; i < length - 1; i++) {
+            skips[pattern[offset + i] & 0xff] = length - 1 - i;
+        }
+        byte end = pattern[offset + length - 1];
+        int last = to - length;
+        for (int i = from; i <= last; ) {
+            byte b = data[i + length - 1];
+            if (b == end && BulkOps.mismatch(data, i, pattern, offset, length - 1) < 0) {
+                return i;
+            }
+            i += skips[b & 0xff];
+        }
+        return -1;
+    }
+}
\ No newline at end of file
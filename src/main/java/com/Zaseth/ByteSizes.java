@@ -0,0 +1,109 @@
+package com.Zaseth;
+
+import java.io.UTFDataFormatException;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/*
+Exact number of bytes each write function produces for a value, so a message can be measured before its
+buffer is allocated. The variable length sizes throw the same exceptions as the write functions for values
+they can't encode. SizeCounter adds them up for a whole write pass
+ */
+public final class ByteSizes {
+    
+    public static final int INT8 = 1;
+    public static final int INT16 = 2;
+    public static final int INT24 = 3;
+    public static final int INT32 = 4;
+    public static final int INT40 = 5;
+    public static final int INT48 = 6;
+    public static final int INT56 = 7;
+    public static final int INT64 = 8;
+    public static final int FLOAT = 4;
+    public static final int DOUBLE = 8;
+    public static final int BOOLEAN = 1;
+    
+    private ByteSizes() {}
+    
+    /*
+    Int29 functions
+     */
+    public static int sizeOfInt29(int v) {
+        if (v < -0x10000000 || v > 0x0fffffff) {
+            throw new IllegalArgumentException("Integer must be between -0x10000000 and 0x0fffffff but got " + v + " instead");
+        }
+        v += v < 0 ? 0x20000000 : 0;
+        return v > 0x1fffff ? 4 : v > 0x3fff ? 3 : v > 0x7f ? 2 : 1;
+    }
+    
+    public static int sizeOfUInt29(int v) {
+        if (v < 0) {
+            throw new ArrayIndexOutOfBoundsException("Value argument is out of bounds"); // Same as the first writeUInt8
+        }
+        if (v >= 1073741824) {
+            throw new IllegalArgumentException("Integer out of range: " + v);
+        }
+        return v < 128 ? 1 : v < 16384 ? 2 : v < 2097152 ? 3 : 4;
+    }
+    
+    /*
+    Varint and varuint functions
+     */
+    public static int sizeOf7BitEncodedInt(int v) {
+        return Math.min(ByteOutput.get7BitValueSize(v), 4);
+    }
+    
+    public static int sizeOf7BitEncodedLong(long v) {
+        return ByteOutput.get7BitValueSize(v);
+    }
+    
+    public static int sizeOfVarInt32(int v) {
+        return VarInts.sizeOf32(v);
+    }
+    
+    public static int sizeOfVarInt64(long v) {
+        return VarInts.sizeOf64(v);
+    }
+    
+    public static int sizeOfVarUInt32(int v) {
+        return VarInts.sizeOf32(v << 1 ^ v >> 31);
+    }
+    
+    public static int sizeOfVarUInt64(long v) {
+        return VarInts.sizeOf64(v << 1 ^ v >> 63);
+    }
+    
+    /*
+    Array functions
+     */
+    public static long sizeOfVarInt32Array(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long size = 0;
+        for (int i = offset; i < offset + length; i++) {
+            size += VarInts.sizeOf32(values[i]);
+        }
+        return size;
+    }
+    
+    public static long sizeOfVarInt64Array(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long size = 0;
+        for (int i = offset; i < offset + length; i++) {
+            size += VarInts.sizeOf64(values[i]);
+        }
+        return size;
+    }
+    
+    /*
+    String functions
+     */
+    public static int sizeOfUTF(String s) throws UTFDataFormatException {
+        return 2 + StringCodec.utfLength(s);
+    }
+    
+    public static int sizeOfMultiByte(String v, String charset) {
+        Charset cs = StringCodec.charset(charset);
+        int length = StringCodec.encodedLength(v, cs);
+        return length >= 0 ? length : StringCodec.local().encode(v, cs); // Other charsets are measured by encoding into scratch
+    }
+}
\ No newline at end of file
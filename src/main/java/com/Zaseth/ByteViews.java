@@ -0,0 +1,350 @@
+package com.Zaseth;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+Byte array view handles, every 2, 4 and 8 byte access is a single (unaligned) load or store
+and the odd widths are split into at most three of them
+ */
+final class ByteViews {
+    
+    private static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    
+    private static final boolean NATIVE_BIG_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+    private static final int BULK_THRESHOLD = 64; // Below this the view buffer costs more than it saves
+    
+    private ByteViews() {}
+    
+    /*
+    2, 4 and 8 byte accesses
+     */
+    static void putShort(byte[] data, int index, int v, boolean bigEndian) {
+        if (bigEndian) {
+            SHORT_BE.set(data, index, (short) v);
+        } else {
+            SHORT_LE.set(data, index, (short) v);
+        }
+    }
+    
+    static short getShort(byte[] data, int index, boolean bigEndian) {
+        return bigEndian ? (short) SHORT_BE.get(data, index) : (short) SHORT_LE.get(data, index);
+    }
+    
+    static void putInt(byte[] data, int index, int v, boolean bigEndian) {
+        if (bigEndian) {
+            INT_BE.set(data, index, v);
+        } else {
+            INT_LE.set(data, index, v);
+        }
+    }
+    
+    static int getInt(byte[] data, int index, boolean bigEndian) {
+        return bigEndian ? (int) INT_BE.get(data, index) : (int) INT_LE.get(data, index);
+    }
+    
+    static void putLong(byte[] data, int index, long v, boolean bigEndian) {
+        if (bigEndian) {
+            LONG_BE.set(data, index, v);
+        } else {
+            LONG_LE.set(data, index, v);
+        }
+    }
+    
+    static long getLong(byte[] data, int index, boolean bigEndian) {
+        return bigEndian ? (long) LONG_BE.get(data, index) : (long) LONG_LE.get(data, index);
+    }
+    
+    /*
+    3, 5, 6 and 7 byte accesses
+     */
+    static void putInt24(byte[] data, int index, int v, boolean bigEndian) {
+        if (bigEndian) {
+            putShort(data, index, v >> 8, true);
+            data[index + 2] = (byte) v;
+        } else {
+            putShort(data, index, v, false);
+            data[index + 2] = (byte) (v >> 16);
+        }
+    }
+    
+    static int getInt24(byte[] data, int index, boolean bigEndian) {
+        if (bigEndian) {
+            return getShort(data, index, true) << 8 | data[index + 2] & 0xff;
+        } else {
+            return getShort(data, index, false) & 0xffff | data[index + 2] << 16;
+        }
+    }
+    
+    static int getUInt24(byte[] data, int index, boolean bigEndian) {
+        return getInt24(data, index, bigEndian) & 0xffffff;
+    }
+    
+    static void putInt40(byte[] data, int index, long v, boolean bigEndian) {
+        if (bigEndian) {
+            putInt(data, index, (int) (v >> 8), true);
+            data[index + 4] = (byte) v;
+        } else {
+            putInt(data, index, (int) v, false);
+            data[index + 4] = (byte) (v >> 32);
+        }
+    }
+    
+    static long getInt40(byte[] data, int index, boolean bigEndian) {
+        if (bigEndian) {
+            return (long) getInt(data, index, true) << 8 | data[index + 4] & 0xffL;
+        } else {
+            return getInt(data, index, false) & 0xffffffffL | (long) data[index + 4] << 32;
+        }
+    }
+    
+    static long getUInt40(byte[] data, int index, boolean bigEndian) {
+        return getInt40(data, index, bigEndian) & 0xffffffffffL;
+    }
+    
+    static void putInt48(byte[] data, int index, long v, boolean bigEndian) {
+        if (bigEndian) {
+            putInt(data, index, (int) (v >> 16), true);
+            putShort(data, index + 4, (int) v, true);
+        } else {
+            putInt(data, index, (int) v, false);
+            putShort(data, index + 4, (int) (v >> 32), false);
+        }
+    }
+    
+    static long getInt48(byte[] data, int index, boolean bigEndian) {
+        if (bigEndian) {
+            return (long) getInt(data, index, true) << 16 | getShort(data, index + 4, true) & 0xffffL;
+        } else {
+            return getInt(data, index, false) & 0xffffffffL | (long) getShort(data, index + 4, false) << 32;
+        }
+    }
+    
+    static long getUInt48(byte[] data, int index, boolean bigEndian) {
+        return getInt48(data, index, bigEndian) & 0xffffffffffffL;
+    }
+    
+    static void putInt56(byte[] data, int index, long v, boolean bigEndian) {
+        if (bigEndian) {
+            putInt(data, index, (int) (v >> 24), true);
+            putShort(data, index + 4, (int) (v >> 8), true);
+            data[index + 6] = (byte) v;
+        } else {
+            putInt(data, index, (int) v, false);
+            putShort(data, index + 4, (int) (v >> 32), false);
+            data[index + 6] = (byte) (v >> 48);
+        }
+    }
+    
+    static long getInt56(byte[] data, int index, boolean bigEndian) {
+        if (bigEndian) {
+            return (long) getInt(data, index, true) << 24 | (getShort(data, index + 4, true) & 0xffffL) << 8
+                    | data[index + 6] & 0xffL;
+        } else {
+            return getInt(data, index, false) & 0xffffffffL | (getShort(data, index + 4, false) & 0xffffL) << 32
+                    | (long) data[index + 6] << 48;
+        }
+    }
+    
+    static long getUInt56(byte[] data, int index, boolean bigEndian) {
+        return getInt56(data, index, bigEndian) & 0xffffffffffffffL;
+    }
+    
+    /*
+    Array accesses, a run in native order is one bulk copy through a view buffer and anything else is
+    swapped value by value
+     */
+    static void putInts(byte[] data, int index, int[] values, int offset, int length, boolean bigEndian) {
+        if (bigEndian == NATIVE_BIG_ENDIAN && length >= BULK_THRESHOLD) {
+            ByteBuffer.wrap(data, index, length << 2).order(ByteOrder.nativeOrder()).asIntBuffer().put(values, offset, length);
+        } else if (bigEndian) {
+            for (int i = 0; i < length; i++) {
+                INT_BE.set(data, index + (i << 2), values[offset + i]);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                INT_LE.set(data, index + (i << 2), values[offset + i]);
+            }
+        }
+    }
+    
+    static void getInts(byte[] data, int index, int[] values, int offset, int length, boolean bigEndian) {
+        if (bigEndian == NATIVE_BIG_ENDIAN && length >= BULK_THRESHOLD) {
+            ByteBuffer.wrap(data, index, length << 2).order(ByteOrder.nativeOrder()).asIntBuffer().get(values, offset, length);
+        } else if (bigEndian) {
+            for (int i = 0; i < length; i++) {
+                values[offset + i] = (int) INT_BE.get(data, index + (i << 2));
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                values[offset + i] = (int) INT_LE.get(data, index + (i << 2));
+            }
+        }
+    }
+    
+    static void putLongs(byte[] data, int index, long[] values, int offset, int length, boolean bigEndian) {
+        if (bigEndian == NATIVE_BIG_ENDIAN && length >= BULK_THRESHOLD) {
+            ByteBuffer.wrap(data, index, length << 3).order(ByteOrder.nativeOrder()).asLongBuffer().put(values, offset, length);
+        } else if (bigEndian) {
+            for (int i = 0; i < length; i++) {
+                LONG_BE.set(data, index + (i << 3), values[offset + i]);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                LONG_LE.set(data, index + (i << 3), values[offset + i]);
+            }
+        }
+    }
+    
+    static void getLongs(byte[] data, int index, long[] values, int offset, int length, boolean bigEndian) {
+        if (bigEndian == NATIVE_BIG_ENDIAN && length >= BULK_THRESHOLD) {
+            ByteBuffer.wrap(data, index, length << 3).order(ByteOrder.nativeOrder()).asLongBuffer().get(values, offset, length);
+        } else if (bigEndian) {
+            for (int i = 0; i < length; i++) {
+                values[offset + i] = (long) LONG_BE.get(data, index + (i << 3));
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                values[offset + i] = (long) LONG_LE.get(data, index + (i << 3));
+            }
+        }
+    }
+    
+    static void putFloats(byte[] data, int index, float[] values, int offset, int length, boolean bigEndian) {
+        if (bigEndian) { // No bulk copy, writeFloat collapses every NaN to the canonical one
+            for (int i = 0; i < length; i++) {
+                INT_BE.set(data, index + (i << 2), Float.floatToIntBits(values[offset + i]));
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                INT_LE.set(data, index + (i << 2), Float.floatToIntBits(values[offset + i]));
+            }
+        }
+    }
+    
+    static void getFloats(byte[] data, int index, float[] values, int offset, int length, boolean bigEndian) {
+        if (bigEndian == NATIVE_BIG_ENDIAN && length >= BULK_THRESHOLD) {
+            ByteBuffer.wrap(data, index, length << 2).order(ByteOrder.nativeOrder()).asFloatBuffer().get(values, offset, length);
+        } else if (bigEndian) {
+            for (int i = 0; i < length; i++) {
+                values[offset + i] = Float.intBitsToFloat((int) INT_BE.get(data, index + (i << 2)));
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                values[offset + i] = Float.intBitsToFloat((int) INT_LE.get(data, index + (i << 2)));
+            }
+        }
+    }
+    
+    static void putDoubles(byte[] data, int index, double[] values, int offset, int length, boolean bigEndian) {
+        if (bigEndian) {
+            for (int i = 0; i < length; i++) {
+                LONG_BE.set(data, index + (i << 3), Double.doubleToLongBits(values[offset + i]));
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                LONG_LE.set(data, index + (i << 3), Double.doubleToLongBits(values[offset + i]));
+            }
+        }
+    }
+    
+    static void getDoubles(byte[] data, int index, double[] values, int offset, int length, boolean bigEndian) {
+        if (bigEndian == NATIVE_BIG_ENDIAN && length >= BULK_THRESHOLD) {
+            ByteBuffer.wrap(data, index, length << 3).order(ByteOrder.nativeOrder()).asDoubleBuffer().get(values, offset, length);
+        } else if (bigEndian) {
+            for (int i = 0; i < length; i++) {
+                values[offset + i] = Double.longBitsToDouble((long) LONG_BE.get(data, index + (i << 3)));
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                values[offset + i] = Double.longBitsToDouble((long) LONG_LE.get(data, index + (i << 3)));
+            }
+        }
+    }
+    
+    /*
+    Odd width accesses on a ByteBuffer whose order already matches bigEndian
+     */
+    static void putInt24(ByteBuffer buffer, int index, int v, boolean bigEndian) {
+        if (bigEndian) {
+            buffer.putShort(index, (short) (v >> 8));
+            buffer.put(index + 2, (byte) v);
+        } else {
+            buffer.putShort(index, (short) v);
+            buffer.put(index + 2, (byte) (v >> 16));
+        }
+    }
+    
+    static void putInt40(ByteBuffer buffer, int index, long v, boolean bigEndian) {
+        if (bigEndian) {
+            buffer.putInt(index, (int) (v >> 8));
+            buffer.put(index + 4, (byte) v);
+        } else {
+            buffer.putInt(index, (int) v);
+            buffer.put(index + 4, (byte) (v >> 32));
+        }
+    }
+    
+    static void putInt48(ByteBuffer buffer, int index, long v, boolean bigEndian) {
+        if (bigEndian) {
+            buffer.putInt(index, (int) (v >> 16));
+            buffer.putShort(index + 4, (short) v);
+        } else {
+            buffer.putInt(index, (int) v);
+            buffer.putShort(index + 4, (short) (v >> 32));
+        }
+    }
+    
+    static void putInt56(ByteBuffer buffer, int index, long v, boolean bigEndian) {
+        if (bigEndian) {
+            buffer.putInt(index, (int) (v >> 24));
+            buffer.putShort(index + 4, (short) (v >> 8));
+            buffer.put(index + 6, (byte) v);
+        } else {
+            buffer.putInt(index, (int) v);
+            buffer.putShort(index + 4, (short) (v >> 32));
+            buffer.put(index + 6, (byte) (v >> 48));
+        }
+    }
+    
+    static int getInt24(ByteBuffer buffer, int index, boolean bigEndian) {
+        if (bigEndian) {
+            return buffer.getShort(index) << 8 | buffer.get(index + 2) & 0xff;
+        } else {
+            return buffer.getShort(index) & 0xffff | buffer.get(index + 2) << 16;
+        }
+    }
+    
+    static long getInt40(ByteBuffer buffer, int index, boolean bigEndian) {
+        if (bigEndian) {
+            return (long) buffer.getInt(index) << 8 | buffer.get(index + 4) & 0xffL;
+        } else {
+            return buffer.getInt(index) & 0xffffffffL | (long) buffer.get(index + 4) << 32;
+        }
+    }
+    
+    static long getInt48(ByteBuffer buffer, int index, boolean bigEndian) {
+        if (bigEndian) {
+            return (long) buffer.getInt(index) << 16 | buffer.getShort(index + 4) & 0xffffL;
+        } else {
+            return buffer.getInt(index) & 0xffffffffL | (long) buffer.getShort(index + 4) << 32;
+        }
+    }
+    
+    static long getInt56(ByteBuffer buffer, int index, boolean bigEndian) {
+        if (bigEndian) {
+            return (long) buffer.getInt(index) << 24 | (buffer.getShort(index + 4) & 0xffffL) << 8
+                    | buffer.get(index + 6) & 0xffL;
+        } else {
+            return buffer.getInt(index) & 0xffffffffL | (buffer.getShort(index + 4) & 0xffffL) << 32
+                    | (long) buffer.get(index + 6) << 48;
+        }
+    }
+}
\ No newline at end of file
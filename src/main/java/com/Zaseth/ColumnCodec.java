@@ -0,0 +1,367 @@
+package com.Zaseth;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/*
+Block encodings for sequences of numbers, written to and read from a ByteArrayJava. The length isn't
+stored, write it first when the reader can't know it. Delta writes zigzag varint differences, for sorted or
+slowly changing values. Bit packing cuts the values into blocks of 128, subtracts the smallest value of
+each block and stores the rest at the width the largest one needs. Delta of delta bit packs the change of
+the difference, regular timestamps cost a few bytes per block. Xor packs doubles Gorilla style, repeated
+and slowly changing values take a bit or a few
+ */
+public final class ColumnCodec {
+    
+    static final int BLOCK = 128;
+    
+    private ColumnCodec() {}
+    
+    /*
+    Delta functions
+     */
+    public static void writeDeltaInt64(ByteArrayJava out, long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long size = 0;
+        long previous = 0;
+        for (int i = offset; i < offset + length; i++) {
+            size += VarInts.sizeOf64(zigzag(values[i] - previous));
+            previous = values[i];
+        }
+        out.ensureWritable(arrayBytes(size));
+        byte[] data = out.data;
+        int index = out.position;
+        previous = 0;
+        for (int i = offset; i < offset + length; i++) {
+            index = VarInts.putVarInt64(data, index, zigzag(values[i] - previous));
+            previous = values[i];
+        }
+        out.position = index;
+    }
+    
+    public static void readDeltaInt64(ByteArrayJava in, long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long previous = 0;
+        for (int i = offset; i < offset + length; i++) {
+            previous += in.readVarUInt64();
+            values[i] = previous;
+        }
+    }
+    
+    public static void writeDeltaInt32(ByteArrayJava out, int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long size = 0;
+        int previous = 0;
+        for (int i = offset; i < offset + length; i++) {
+            size += VarInts.sizeOf32(zigzag(values[i] - previous));
+            previous = values[i];
+        }
+        out.ensureWritable(arrayBytes(size));
+        byte[] data = out.data;
+        int index = out.position;
+        previous = 0;
+        for (int i = offset; i < offset + length; i++) {
+            index = VarInts.putVarInt32(data, index, zigzag(values[i] - previous));
+            previous = values[i];
+        }
+        out.position = index;
+    }
+    
+    public static void readDeltaInt32(ByteArrayJava in, int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        int previous = 0;
+        for (int i = offset; i < offset + length; i++) {
+            previous += in.readVarUInt32();
+            values[i] = previous;
+        }
+    }
+    
+    /*
+    Bit packing functions
+     */
+    public static void writeBitPacked(ByteArrayJava out, long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long[] words = new long[2 * BLOCK + 1];
+        for (int start = offset; start < offset + length; start += BLOCK) {
+            packBlock(out, values, start, Math.min(BLOCK, offset + length - start), words);
+        }
+    }
+    
+    public static void readBitPacked(ByteArrayJava in, long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long[] words = new long[2 * BLOCK + 1];
+        for (int start = offset; start < offset + length; start += BLOCK) {
+            unpackBlock(in, values, start, Math.min(BLOCK, offset + length - start), words);
+        }
+    }
+    
+    public static void writeBitPacked(ByteArrayJava out, int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long[] words = new long[2 * BLOCK + 1];
+        long[] block = new long[BLOCK];
+        for (int start = offset; start < offset + length; start += BLOCK) {
+            int n = Math.min(BLOCK, offset + length - start);
+            for (int i = 0; i < n; i++) {
+                block[i] = values[start + i];
+            }
+            packBlock(out, block, 0, n, words);
+        }
+    }
+    
+    public static void readBitPacked(ByteArrayJava in, int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        long[] words = new long[2 * BLOCK + 1];
+        long[] block = new long[BLOCK];
+        for (int start = offset; start < offset + length; start += BLOCK) {
+            int n = Math.min(BLOCK, offset + length - start);
+            unpackBlock(in, block, 0, n, words);
+            for (int i = 0; i < n; i++) {
+                values[start + i] = (int) block[i];
+            }
+        }
+    }
+    
+    /*
+    Delta of delta functions, the first value and difference are varints, the rest is bit packed
+     */
+    public static void writeDeltaOfDelta(ByteArrayJava out, long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (length == 0) {
+            return;
+        }
+        out.writeVarUInt64(values[offset]);
+        if (length == 1) {
+            return;
+        }
+        long delta = values[offset + 1] - values[offset];
+        out.writeVarUInt64(delta);
+        long[] words = new long[2 * BLOCK + 1];
+        long[] block = new long[BLOCK];
+        for (int start = offset + 2; start < offset + length; start += BLOCK) {
+            int n = Math.min(BLOCK, offset + length - start);
+            for (int i = 0; i < n; i++) {
+                long next = values[start + i] - values[start + i - 1];
+                block[i] = next - delta;
+                delta = next;
+            }
+            packBlock(out, block, 0, n, words);
+        }
+    }
+    
+    public static void readDeltaOfDelta(ByteArrayJava in, long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (length == 0) {
+            return;
+        }
+        long value = in.readVarUInt64();
+        values[offset] = value;
+        if (length == 1) {
+            return;
+        }
+        long delta = in.readVarUInt64();
+        values[offset + 1] = value += delta;
+        long[] words = new long[2 * BLOCK + 1];
+        long[] block = new long[BLOCK];
+        for (int start = offset + 2; start < offset + length; start += BLOCK) {
+            int n = Math.min(BLOCK, offset + length - start);
+            unpackBlock(in, block, 0, n, words);
+            for (int i = 0; i < n; i++) {
+                delta += block[i];
+                values[start + i] = value += delta;
+            }
+        }
+    }
+    
+    /*
+    Xor functions, the raw bits of the first value go through writeInt64 so NaN payloads survive. Every next
+    one is xored with the previous, a 0 bit means equal, 10 reuses the last window of meaningful bits, 11
+    is followed by 5 bits of leading zeros and 6 bits of length before the bits themselves
+     */
+    public static void writeXorDoubles(ByteArrayJava out, double[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (length == 0) {
+            return;
+        }
+        out.writeInt64(Double.doubleToRawLongBits(values[offset]));
+        out.reserve(arrayBytes(((length - 1) * 77L + 7) / 8 + 1));
+        BitWriter writer = new BitWriter(out.data, out.position);
+        long previous = Double.doubleToRawLongBits(values[offset]);
+        int leading = Integer.MAX_VALUE;
+        int trailing = 0;
+        for (int i = offset + 1; i < offset + length; i++) {
+            long bits = Double.doubleToRawLongBits(values[i]);
+            long xor = bits ^ previous;
+            previous = bits;
+            if (xor == 0) {
+                writer.write(0, 1);
+                continue;
+            }
+            int lead = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            int trail = Long.numberOfTrailingZeros(xor);
+            if (lead >= leading && trail >= trailing) {
+                writer.write(0b10, 2);
+                writer.write(xor >>> trailing, 64 - leading - trailing);
+            } else {
+                int meaningful = 64 - lead - trail;
+                writer.write(0b11, 2);
+                writer.write(lead, 5);
+                writer.write(meaningful - 1, 6);
+                writer.write(xor >>> trail, meaningful);
+                leading = lead;
+                trailing = trail;
+            }
+        }
+        out.position = writer.finish();
+    }
+    
+    public static void readXorDoubles(ByteArrayJava in, double[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if (length == 0) {
+            return;
+        }
+        long previous = in.readInt64();
+        values[offset] = Double.longBitsToDouble(previous);
+        BitReader reader = new BitReader(in.data, in.position, in.end());
+        int leading = 0;
+        int trailing = 0;
+        for (int i = offset + 1; i < offset + length; i++) {
+            if (reader.read(1) != 0) {
+                if (reader.read(1) != 0) {
+                    leading = (int) reader.read(5);
+                    trailing = 64 - leading - ((int) reader.read(6) + 1);
+                    if (trailing < 0) {
+                        throw new IllegalArgumentException("Malformed xor block, " + leading + " leading zeros leave no room for the meaningful bits");
+                    }
+                }
+                previous ^= reader.read(64 - leading - trailing) << trailing;
+            }
+            values[i] = Double.longBitsToDouble(previous);
+        }
+        in.position = reader.finish();
+    }
+    
+    /*
+    Help functions
+     */
+    private static void packBlock(ByteArrayJava out, long[] values, int offset, int n, long[] words) {
+        long min = values[offset];
+        long max = min;
+        for (int i = offset + 1; i < offset + n; i++) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+        int width = 64 - Long.numberOfLeadingZeros(max - min);
+        int count = n * width + 63 >>> 6;
+        Arrays.fill(words, 0, count + 1, 0);
+        for (int i = 0; i < n; i++) {
+            long v = values[offset + i] - min;
+            int bit = i * width;
+            int shift = bit & 63;
+            // Bits that don't fit the word go to the next one, shifted in two steps so a shift of 0 adds nothing
+            words[bit >>> 6] |= v << shift;
+            words[(bit >>> 6) + 1] |= v >>> 1 >>> 63 - shift;
+        }
+        out.writeUInt8(width);
+        out.writeVarUInt64(min);
+        out.writeInt64Array(words, 0, count);
+    }
+    
+    private static void unpackBlock(ByteArrayJava in, long[] values, int offset, int n, long[] words) {
+        int width = in.readUInt8();
+        if (width > 64) {
+            throw new IllegalArgumentException("Bit width must be between 0 and 64 but got " + width + " instead");
+        }
+        long min = in.readVarUInt64();
+        if (width == 0) {
+            Arrays.fill(values, offset, offset + n, min);
+            return;
+        }
+        int count = n * width + 63 >>> 6;
+        in.readInt64Array(words, 0, count);
+        words[count] = 0;
+        BulkOps.unpack(words, width, min, values, offset, n);
+    }
+    
+    private static long zigzag(long v) {
+        return v << 1 ^ v >> 63;
+    }
+    
+    private static int zigzag(int v) {
+        return v << 1 ^ v >> 31;
+    }
+    
+    private static int arrayBytes(long size) {
+        if (size > Integer.MAX_VALUE) {
+            throw new ArrayIndexOutOfBoundsException("Required capacity exceeds the maximum array size");
+        }
+        return (int) size;
+    }
+    
+    private static final class BitWriter {
+        
+        private final byte[] data;
+        private int index;
+        private long bits;
+        private int count;
+        
+        BitWriter(byte[] data, int index) {
+            this.data = data;
+            this.index = index;
+        }
+        
+        void write(long value, int length) {
+            if (length > 32) {
+                this.write(value >>> 32, length - 32);
+                length = 32;
+            }
+            this.bits = this.bits << length | value & -1L >>> 64 - length;
+            this.count += length;
+            while (this.count >= 8) {
+                this.count -= 8;
+                this.data[this.index++] = (byte) (this.bits >>> this.count);
+            }
+        }
+        
+        int finish() {
+            if (this.count > 0) {
+                this.data[this.index++] = (byte) (this.bits << 8 - this.count);
+            }
+            return this.index;
+        }
+    }
+    
+    private static final class BitReader {
+        
+        private final byte[] data;
+        private final int end;
+        private int index;
+        private long bits;
+        private int count;
+        
+        BitReader(byte[] data, int index, int end) {
+            this.data = data;
+            this.index = index;
+            this.end = end;
+        }
+        
+        long read(int length) {
+            if (length > 32) {
+                long high = this.read(length - 32);
+                return high << 32 | this.read(32);
+            }
+            while (this.count < length) {
+                if (this.index >= this.end) {
+                    throw new ArrayIndexOutOfBoundsException("Trying to access beyond buffer length");
+                }
+                this.bits = this.bits << 8 | this.data[this.index++] & 0xff;
+                this.count += 8;
+            }
+            this.count -= length;
+            return this.bits >>> this.count & -1L >>> 64 - length;
+        }
+        
+        int finish() {
+            return this.index;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,467 @@
+package com.Zaseth;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+
+/*
+Several byte regions read and written as one logical buffer without concatenating them. Values that
+straddle two regions are gathered byte by byte, everything else is decoded straight from the region.
+The regions are shared, not copied, and the composite can be written out as a gather list
+ */
+public class CompositeByteArray implements ByteArray {
+    
+    private byte[][] arrays = new byte[4][];
+    private int[] offsets = new int[4];
+    private int[] lengths = new int[4];
+    private int[] starts = new int[4];
+    private int components;
+    
+    private int length;
+    private int position;
+    private int component;
+    
+    private final byte[] scratch = new byte[8];
+    
+    private boolean endian;
+    
+    /*
+    Constructor
+     */
+    public CompositeByteArray(ByteArrayJava... buffers) {
+        this.endian = true;
+        for (ByteArrayJava buffer : buffers) {
+            this.addComponent(buffer);
+        }
+    }
+    
+    public CompositeByteArray() {
+        this.endian = true;
+    }
+    
+    /*
+    Component functions
+     */
+    public CompositeByteArray addComponent(ByteArrayJava buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Can't add an empty byte stream");
+        }
+        return this.addComponent(buffer.data, buffer.base, buffer.writtenLength());
+    }
+    
+    public CompositeByteArray addComponent(byte[] bytes) {
+        return this.addComponent(bytes, 0, bytes.length);
+    }
+    
+    public CompositeByteArray addComponent(byte[] bytes, int offset, int length) {
+        if ((offset < 0) || (offset > bytes.length) || (length < 0) || ((offset + length) > bytes.length) || ((offset + length) < 0)) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (this.length + length < 0) {
+            throw new ArrayIndexOutOfBoundsException("Composite length exceeds the maximum buffer size");
+        }
+        if (length == 0) {
+            return this;
+        }
+        if (this.components == this.arrays.length) {
+            int grown = this.components << 1;
+            this.arrays = Arrays.copyOf(this.arrays, grown);
+            this.offsets = Arrays.copyOf(this.offsets, grown);
+            this.lengths = Arrays.copyOf(this.lengths, grown);
+            this.starts = Arrays.copyOf(this.starts, grown);
+        }
+        this.arrays[this.components] = bytes;
+        this.offsets[this.components] = offset;
+        this.lengths[this.components] = length;
+        this.starts[this.components] = this.length;
+        this.components++;
+        this.length += length;
+        return this;
+    }
+    
+    public int numComponents() {
+        return this.components;
+    }
+    
+    /*
+    Set and get functions
+     */
+    public void setEndian(boolean e) {
+        this.endian = e;
+    }
+    
+    public boolean getEndian() {
+        return this.endian;
+    }
+    
+    public int getPosition() {
+        return this.position;
+    }
+    
+    public void setPosition(int position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position must be positive but got " + position + " instead");
+        }
+        this.position = position;
+    }
+    
+    public int moveLeft(int v) {
+        return this.position -= v;
+    }
+    
+    public int moveRight(int v) {
+        return this.position += v;
+    }
+    
+    public int length() {
+        return this.length;
+    }
+    
+    /*
+    Data retrieval functions
+     */
+    public int bytesAvailable() {
+        int value = this.length - this.position;
+        if (value > this.length || value < 0) {
+            return 0;
+        }
+        if (this.position >= this.length) {
+            return -1;
+        }
+        return value;
+    }
+    
+    public ByteBuffer[] nioBuffers() {
+        ByteBuffer[] buffers = new ByteBuffer[this.components];
+        for (int i = 0; i < this.components; i++) {
+            buffers[i] = ByteBuffer.wrap(this.arrays[i], this.offsets[i], this.lengths[i]);
+        }
+        return buffers;
+    }
+    
+    public long writeTo(GatheringByteChannel channel) throws IOException {
+        ByteBuffer[] buffers = this.nioBuffers();
+        long written = 0;
+        while (written < this.length) {
+            written += channel.write(buffers);
+        }
+        return written;
+    }
+    
+    /*
+    Help functions
+     */
+    private int locate(int index) {
+        int c = this.component;
+        if (c < this.components && index >= this.starts[c] && index - this.starts[c] < this.lengths[c]) {
+            return c;
+        }
+        int low = 0;
+        int high = this.components - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (this.starts[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        this.component = low;
+        return low;
+    }
+    
+    private void checkAccess(int ext) {
+        if (this.position < 0) {
+            throw new IllegalArgumentException("Offset is not uint");
+        }
+        if (this.position + ext > this.length || this.position + ext < 0) {
+            throw new ArrayIndexOutOfBoundsException("Trying to access beyond buffer length");
+        }
+    }
+    
+    private void checkInt(long value, int ext, long max, long min) {
+        if (value > max || value < min) {
+            throw new ArrayIndexOutOfBoundsException("Value argument is out of bounds");
+        }
+        this.checkAccess(ext);
+    }
+    
+    private void copyOut(int index, byte[] target, int targetOffset, int length) {
+        while (length > 0) {
+            int c = this.locate(index);
+            int local = index - this.starts[c];
+            int n = Math.min(length, this.lengths[c] - local);
+            System.arraycopy(this.arrays[c], this.offsets[c] + local, target, targetOffset, n);
+            index += n;
+            targetOffset += n;
+            length -= n;
+        }
+    }
+    
+    private void copyIn(int index, byte[] source, int sourceOffset, int length) {
+        while (length > 0) {
+            int c = this.locate(index);
+            int local = index - this.starts[c];
+            int n = Math.min(length, this.lengths[c] - local);
+            System.arraycopy(source, sourceOffset, this.arrays[c], this.offsets[c] + local, n);
+            index += n;
+            sourceOffset += n;
+            length -= n;
+        }
+    }
+    
+    private long getBits(int n) {
+        this.checkAccess(n);
+        int c = this.locate(this.position);
+        int local = this.position - this.starts[c];
+        byte[] array;
+        int at;
+        if (local + n <= this.lengths[c]) {
+            array = this.arrays[c];
+            at = this.offsets[c] + local;
+            if (n == 8) {
+                this.position += 8;
+                return ByteViews.getLong(array, at, this.endian);
+            } else if (n == 4) {
+                this.position += 4;
+                return ByteViews.getInt(array, at, this.endian) & 0xffffffffL;
+            }
+        } else {
+            array = this.scratch;
+            at = 0;
+            this.copyOut(this.position, array, 0, n);
+        }
+        long v = 0;
+        if (this.endian) {
+            for (int i = 0; i < n; i++) {
+                v = v << 8 | array[at + i] & 0xff;
+            }
+        } else {
+            for (int i = n - 1; i >= 0; i--) {
+                v = v << 8 | array[at + i] & 0xff;
+            }
+        }
+        this.position += n;
+        return v;
+    }
+    
+    private void putBits(long v, int n) {
+        int c = this.locate(this.position);
+        int local = this.position - this.starts[c];
+        if (local + n <= this.lengths[c]) {
+            byte[] array = this.arrays[c];
+            int at = this.offsets[c] + local;
+            if (n == 8) {
+                ByteViews.putLong(array, at, v, this.endian);
+            } else if (n == 4) {
+                ByteViews.putInt(array, at, (int) v, this.endian);
+            } else {
+                this.spread(v, n, array, at);
+            }
+        } else {
+            this.spread(v, n, this.scratch, 0);
+            this.copyIn(this.position, this.scratch, 0, n);
+        }
+        this.position += n;
+    }
+    
+    private void spread(long v, int n, byte[] array, int at) {
+        if (this.endian) {
+            for (int i = n - 1; i >= 0; i--) {
+                array[at + i] = (byte) v;
+                v >>= 8;
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                array[at + i] = (byte) v;
+                v >>= 8;
+            }
+        }
+    }
+    
+    /*
+    Writing int and uint functions
+     */
+    public void writeInt8(int v) {
+        this.checkInt(v, 1, 0x7f, -0x80);
+        this.writeRawByte(v);
+    }
+    
+    public void writeRawByte(int v) {
+        this.checkAccess(1);
+        int c = this.locate(this.position);
+        this.arrays[c][this.offsets[c] + this.position - this.starts[c]] = (byte) v;
+        this.position++;
+    }
+    
+    public void writeInt16(int v) {
+        this.checkInt(v, 2, 0x7fff, -0x8000);
+        this.putBits(v, 2);
+    }
+    
+    public void writeInt24(int v) {
+        this.checkInt(v, 3, 0x7fffff, -0x800000);
+        this.putBits(v, 3);
+    }
+    
+    public void writeInt32(int v) {
+        this.checkAccess(4);
+        this.putBits(v, 4);
+    }
+    
+    public void writeInt40(long v) {
+        this.checkAccess(5);
+        this.putBits(v, 5);
+    }
+    
+    public void writeInt48(long v) {
+        this.checkAccess(6);
+        this.putBits(v, 6);
+    }
+    
+    public void writeInt56(long v) {
+        this.checkAccess(7);
+        this.putBits(v, 7);
+    }
+    
+    public void writeInt64(long v) {
+        this.checkAccess(8);
+        this.putBits(v, 8);
+    }
+    
+    public void writeUInt8(int v) {
+        this.checkInt(v, 1, 0xff, 0);
+        this.writeRawByte(v);
+    }
+    
+    public void writeUInt16(int v) {
+        this.checkInt(v, 2, 0xffff, 0);
+        this.putBits(v, 2);
+    }
+    
+    public void writeUInt24(int v) {
+        this.checkInt(v, 3, 0xffffff, 0);
+        this.putBits(v, 3);
+    }
+    
+    public void writeUInt32(int v) {
+        this.writeInt32(v);
+    }
+    
+    public void writeUInt40(long v) {
+        this.writeInt40(v);
+    }
+    
+    public void writeUInt48(long v) {
+        this.writeInt48(v);
+    }
+    
+    public void writeUInt56(long v) {
+        this.writeInt56(v);
+    }
+    
+    public void writeUInt64(long v) {
+        this.writeInt64(v);
+    }
+    
+    /*
+    Read int and uint functions
+     */
+    public int readInt8() {
+        return this.readRawByte();
+    }
+    
+    public byte readRawByte() {
+        this.checkAccess(1);
+        int c = this.locate(this.position);
+        byte v = this.arrays[c][this.offsets[c] + this.position - this.starts[c]];
+        this.position++;
+        return v;
+    }
+    
+    public int readInt16() {
+        return (short) this.getBits(2);
+    }
+    
+    public int readInt24() {
+        return (int) (this.getBits(3) << 40 >> 40);
+    }
+    
+    public int readInt32() {
+        return (int) this.getBits(4);
+    }
+    
+    public long readInt40() {
+        return this.getBits(5) << 24 >> 24;
+    }
+    
+    public long readInt48() {
+        return this.getBits(6) << 16 >> 16;
+    }
+    
+    public long readInt56() {
+        return this.getBits(7) << 8 >> 8;
+    }
+    
+    public long readInt64() {
+        return this.getBits(8);
+    }
+    
+    public int readUInt8() {
+        return this.readInt8() & 0xff;
+    }
+    
+    public int readUInt16() {
+        return (int) this.getBits(2);
+    }
+    
+    public int readUInt24() {
+        return (int) this.getBits(3);
+    }
+    
+    public int readUInt32() {
+        return (int) this.getBits(4);
+    }
+    
+    public long readUInt40() {
+        return this.getBits(5);
+    }
+    
+    public long readUInt48() {
+        return this.getBits(6);
+    }
+    
+    public long readUInt56() {
+        return this.getBits(7);
+    }
+    
+    public long readUInt64() {
+        return this.getBits(8);
+    }
+    
+    /*
+    Extra write functions
+     */
+    public void writeBytes(byte bytes[], int offset, int length) {
+        if ((offset < 0) || (offset > bytes.length) || (length < 0) || ((offset + length) > bytes.length) || ((offset + length) < 0)) {
+            throw new IndexOutOfBoundsException();
+        } else if (length == 0) {
+            return;
+        }
+        this.checkAccess(length);
+        this.copyIn(this.position, bytes, offset, length);
+        this.position += length;
+    }
+    
+    /*
+    Extra read functions
+     */
+    public byte[] readBytes(int length) {
+        this.checkAccess(length);
+        byte bytes[] = new byte[length];
+        this.copyOut(this.position, bytes, 0, length);
+        this.position += length;
+        return bytes;
+    }
+}
\ No newline at end of file
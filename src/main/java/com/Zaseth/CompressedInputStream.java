@@ -0,0 +1,197 @@
+package com.Zaseth;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/*
+Reads a stream written by CompressedOutputStream one block at a time. The method is read from every block,
+so no compressor has to be given. Reads of at least a whole block are decompressed straight into the
+caller's array, smaller reads are served from the last decompressed block
+ */
+public class CompressedInputStream extends InputStream {
+    
+    private final InputStream in;
+    private final Compressor[] compressors = new Compressor[3];
+    
+    private byte[] block;
+    private byte[] compressed;
+    private int position;
+    private int count;
+    
+    private int method;
+    private int blockLength;
+    private int storedLength;
+    private boolean finished;
+    
+    /*
+    Constructor
+     */
+    public CompressedInputStream(InputStream in) {
+        if (in == null) {
+            throw new IllegalArgumentException("Input stream can't be null");
+        }
+        this.in = in;
+    }
+    
+    /*
+    Read functions
+     */
+    @Override
+    public int read() throws IOException {
+        if (this.position == this.count) {
+            if (!this.nextBlock()) {
+                return -1;
+            }
+            this.decompress(this.block, 0);
+        }
+        return this.block[this.position++] & 0xff;
+    }
+    
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (this.position == this.count) {
+            if (!this.nextBlock()) {
+                return -1;
+            }
+            if (this.blockLength <= length) {
+                this.decompress(bytes, offset);
+                this.position = this.count = 0;
+                return this.blockLength;
+            }
+            this.decompress(this.block, 0);
+        }
+        int n = Math.min(length, this.count - this.position);
+        System.arraycopy(this.block, this.position, bytes, offset, n);
+        this.position += n;
+        return n;
+    }
+    
+    public int read(ByteArrayJava target, int length) throws IOException {
+        target.reserve(length);
+        int n = this.read(target.data, target.position, length);
+        if (n > 0) {
+            target.position += n;
+        }
+        return n;
+    }
+    
+    @Override
+    public int available() {
+        return this.count - this.position;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+    
+    /*
+    Help functions
+     */
+    private boolean nextBlock() throws IOException {
+        if (this.finished) {
+            return false;
+        }
+        if (this.block == null) {
+            this.readStart();
+        }
+        int method = this.in.read();
+        if (method < 0) {
+            throw new EOFException("Compressed stream ended without its end block");
+        }
+        int length = this.readVarInt32();
+        if (length < 0 || length > this.block.length) {
+            throw new IOException("Block length " + length + " exceeds the block size of " + this.block.length);
+        }
+        int stored = length;
+        if (method != Compressor.STORED) {
+            Compressor compressor = this.compressor(method);
+            stored = this.readVarInt32();
+            if (length == 0 || stored < 0 || stored > compressor.maxCompressedLength(length)) {
+                throw new IOException("Compressed length " + stored + " is invalid for a block of " + length + " bytes");
+            }
+            if (this.compressed == null || this.compressed.length < stored) {
+                this.compressed = new byte[compressor.maxCompressedLength(this.block.length)];
+            }
+            this.readFully(this.compressed, 0, stored);
+        } else if (length == 0) {
+            this.finished = true;
+            return false;
+        }
+        this.method = method;
+        this.blockLength = length;
+        this.storedLength = stored;
+        return true;
+    }
+    
+    private void decompress(byte[] target, int offset) throws IOException {
+        if (this.method == Compressor.STORED) {
+            this.readFully(target, offset, this.blockLength);
+        } else {
+            try {
+                this.compressors[this.method].decompress(this.compressed, 0, this.storedLength, target, offset, this.blockLength);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupt compressed block", e);
+            }
+        }
+        this.position = 0;
+        this.count = this.blockLength;
+    }
+    
+    private Compressor compressor(int method) throws IOException {
+        if (method >= this.compressors.length) {
+            throw new IOException("Unknown compression method " + method);
+        }
+        if (this.compressors[method] == null) {
+            this.compressors[method] = Compressor.forMethod(method);
+        }
+        return this.compressors[method];
+    }
+    
+    private void readStart() throws IOException {
+        byte[] magic = new byte[CompressedOutputStream.MAGIC.length];
+        this.readFully(magic, 0, magic.length);
+        for (int i = 0; i < magic.length; i++) {
+            if (magic[i] != CompressedOutputStream.MAGIC[i]) {
+                throw new IOException("Not a compressed stream");
+            }
+        }
+        int blockSize = this.readVarInt32();
+        if (blockSize < CompressedOutputStream.MIN_BLOCK_SIZE || blockSize > CompressedOutputStream.MAX_BLOCK_SIZE) {
+            throw new IOException("Block size must be between " + CompressedOutputStream.MIN_BLOCK_SIZE + " and " + CompressedOutputStream.MAX_BLOCK_SIZE + " but got " + blockSize + " instead");
+        }
+        this.block = new byte[blockSize];
+    }
+    
+    private int readVarInt32() throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = this.in.read();
+            if (b < 0) {
+                throw new EOFException("Compressed stream ended inside a block header");
+            }
+            result |= (b & 0x7f) << shift;
+            if (b < 0x80) {
+                return result;
+            }
+        }
+        throw new IOException("Varint is longer than 5 bytes");
+    }
+    
+    private void readFully(byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            int n = this.in.read(bytes, offset, length);
+            if (n < 0) {
+                throw new EOFException("Compressed stream ended inside a block");
+            }
+            offset += n;
+            length -= n;
+        }
+    }
+}
\ No newline at end of file
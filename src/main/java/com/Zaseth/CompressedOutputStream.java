@@ -0,0 +1,190 @@
+package com.Zaseth;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/*
+Compresses everything written to it in blocks of a fixed size, so payloads of any length are compressed
+with constant memory. The stream starts with the magic bytes BAJZ and the block size as a varint. Every block
+is the method byte, the raw length as a varint and, unless it's stored, the compressed length as a varint
+followed by the data. Blocks that don't shrink are stored. A stored block of length 0 ends the stream, call
+close() to write it. Writes of a whole block are compressed straight from the caller's array
+ */
+public class CompressedOutputStream extends OutputStream {
+    
+    static final byte[] MAGIC = {'B', 'A', 'J', 'Z'};
+    static final int MIN_BLOCK_SIZE = 16;
+    static final int MAX_BLOCK_SIZE = 1 << 24;
+    
+    private static final int BLOCK_SIZE = 1 << 16;
+    private static final int HEADER_SIZE = 11;
+    
+    private final OutputStream out;
+    private final Compressor compressor;
+    
+    private final byte[] block;
+    private final byte[] compressed;
+    private int count;
+    
+    private long rawLength;
+    private long compressedLength;
+    private boolean started;
+    private boolean closed;
+    
+    /*
+    Constructor
+     */
+    public CompressedOutputStream(OutputStream out, Compressor compressor) {
+        this(out, compressor, BLOCK_SIZE);
+    }
+    
+    public CompressedOutputStream(OutputStream out, Compressor compressor, int blockSize) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream can't be null");
+        }
+        if (compressor == null) {
+            throw new IllegalArgumentException("Compressor can't be null");
+        }
+        if (blockSize < MIN_BLOCK_SIZE || blockSize > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("Block size must be between " + MIN_BLOCK_SIZE + " and " + MAX_BLOCK_SIZE + " but got " + blockSize + " instead");
+        }
+        this.out = out;
+        this.compressor = compressor;
+        this.block = new byte[blockSize];
+        this.compressed = new byte[HEADER_SIZE + compressor.maxCompressedLength(blockSize)];
+    }
+    
+    /*
+    Set and get functions
+     */
+    public Compressor getCompressor() {
+        return this.compressor;
+    }
+    
+    public int getBlockSize() {
+        return this.block.length;
+    }
+    
+    public long getRawLength() {
+        return this.rawLength + this.count;
+    }
+    
+    public long getCompressedLength() {
+        return this.compressedLength;
+    }
+    
+    /*
+    Write functions
+     */
+    @Override
+    public void write(int b) throws IOException {
+        this.ensureOpen();
+        if (this.count == this.block.length) {
+            this.flushBlock();
+        }
+        this.block[this.count++] = (byte) b;
+    }
+    
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        this.ensureOpen();
+        int blockSize = this.block.length;
+        while (length > 0) {
+            if (this.count == 0 && length >= blockSize) {
+                this.writeBlock(bytes, offset, blockSize);
+                offset += blockSize;
+                length -= blockSize;
+                continue;
+            }
+            int n = Math.min(length, blockSize - this.count);
+            System.arraycopy(bytes, offset, this.block, this.count, n);
+            this.count += n;
+            offset += n;
+            length -= n;
+            if (this.count == blockSize) {
+                this.flushBlock();
+            }
+        }
+    }
+    
+    public void write(ByteArrayJava source, int length) throws IOException {
+        source.checkReadable(length);
+        this.write(source.data, source.position, length);
+        source.position += length;
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+        this.flushBlock();
+        this.out.flush();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        try {
+            this.flushBlock();
+            this.writeStart();
+            this.compressed[0] = Compressor.STORED;
+            this.compressed[1] = 0;
+            this.out.write(this.compressed, 0, 2);
+            this.compressedLength += 2;
+            this.out.flush();
+        } finally {
+            this.closed = true;
+            this.out.close();
+        }
+    }
+    
+    /*
+    Help functions
+     */
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream is closed");
+        }
+    }
+    
+    private void flushBlock() throws IOException {
+        if (this.count > 0) {
+            this.writeBlock(this.block, 0, this.count);
+            this.count = 0;
+        }
+    }
+    
+    private void writeStart() throws IOException {
+        if (!this.started) {
+            this.started = true;
+            System.arraycopy(MAGIC, 0, this.compressed, 0, MAGIC.length);
+            int end = VarInts.putVarInt32(this.compressed, MAGIC.length, this.block.length);
+            this.out.write(this.compressed, 0, end);
+            this.compressedLength += end;
+        }
+    }
+    
+    private void writeBlock(byte[] bytes, int offset, int length) throws IOException {
+        this.writeStart();
+        byte[] compressed = this.compressed;
+        int n = this.compressor.compress(bytes, offset, length, compressed, HEADER_SIZE);
+        if (n >= length) {
+            compressed[0] = Compressor.STORED;
+            int end = VarInts.putVarInt32(compressed, 1, length);
+            this.out.write(compressed, 0, end);
+            this.out.write(bytes, offset, length);
+            this.compressedLength += end + length;
+        } else {
+            // The header is put right in front of the data, so the block goes out in one write
+            int start = HEADER_SIZE - 1 - VarInts.sizeOf32(length) - VarInts.sizeOf32(n);
+            compressed[start] = (byte) this.compressor.method();
+            VarInts.putVarInt32(compressed, VarInts.putVarInt32(compressed, start + 1, length), n);
+            this.out.write(compressed, start, HEADER_SIZE + n - start);
+            this.compressedLength += HEADER_SIZE + n - start;
+        }
+        this.rawLength += length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.Zaseth;
+
+/*
+Compresses a byte range into a block and back again. A block holds no header, the caller keeps the
+compressed and the raw length, CompressedOutputStream does that for streams. lz4() is the fast one,
+deflate(level) trades speed for ratio. Malformed blocks throw an IllegalArgumentException
+ */
+public interface Compressor {
+    
+    int STORED = 0;
+    int LZ4 = 1;
+    int DEFLATE = 2;
+    
+    int method();
+    
+    int maxCompressedLength(int length);
+    
+    int compress(byte[] source, int offset, int length, byte[] target, int targetOffset);
+    
+    void decompress(byte[] source, int offset, int length, byte[] target, int targetOffset, int rawLength);
+    
+    /*
+    Compresses length bytes at the source position to the target position, moving both, and returns the
+    compressed length. The target grows to maxCompressedLength first, but only keeps what is written
+     */
+    default int compress(ByteArrayJava source, int length, ByteArrayJava target) {
+        source.checkReadable(length);
+        target.reserve(this.maxCompressedLength(length));
+        int n = this.compress(source.data, source.position, length, target.data, target.position);
+        source.position += length;
+        target.position += n;
+        return n;
+    }
+    
+    /*
+    Decompresses a block of length bytes at the source position into rawLength bytes at the target position,
+    moving both
+     */
+    default void decompress(ByteArrayJava source, int length, ByteArrayJava target, int rawLength) {
+        source.checkReadable(length);
+        target.ensureWritable(rawLength);
+        this.decompress(source.data, source.position, length, target.data, target.position, rawLength);
+        source.position += length;
+        target.position += rawLength;
+    }
+    
+    static Compressor lz4() {
+        return Lz4Compressor.INSTANCE;
+    }
+    
+    static Compressor deflate(int level) {
+        if (level < 0 || level > 9) {
+            throw new IllegalArgumentException("Level must be between 0 and 9 but got " + level + " instead");
+        }
+        return new DeflateCompressor(level);
+    }
+    
+    static Compressor forMethod(int method) {
+        switch (method) {
+            case LZ4:
+                return lz4();
+            case DEFLATE:
+                return deflate(6);
+            default:
+                throw new IllegalArgumentException("Unknown compression method " + method);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.Zaseth;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+Fixed size staging buffer many threads append records to without a lock. reserve() claims a slot with a
+single fetch and add on the tail and returns a view over it for the normal write functions, commit()
+publishes it. One consumer thread polls the committed records in reservation order. Once a reservation
+runs past the end and the consumer has taken everything before it, the buffer starts over from the front.
+The tail carries an epoch in its upper bits, so a producer that raced the restart only sees a failed claim.
+Slots are 8 byte aligned: a header with the commit state and slot size, the payload length and the payload
+ */
+public class ConcurrentAppendBuffer {
+    
+    private static final int HEADER_SIZE = 8;
+    private static final int COMMITTED = 1 << 31;
+    private static final int ABORTED = 1 << 30;
+    private static final int SIZE_MASK = ABORTED - 1;
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    
+    private final byte[] data;
+    private final int capacity;
+    
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong end = new AtomicLong(OFFSET_MASK);
+    private final ThreadLocal<ByteArrayJava> regions;
+    
+    private final ByteArrayJava record = new ByteArrayJava(0);
+    private int readOffset;
+    private long epoch;
+    
+    private volatile boolean endian = true;
+    
+    /*
+    Constructor
+     */
+    public ConcurrentAppendBuffer(int capacity) {
+        if (capacity < HEADER_SIZE || capacity > SIZE_MASK || (capacity & 7) != 0) {
+            throw new IllegalArgumentException("Capacity must be a multiple of 8 up to " + SIZE_MASK + " but got " + capacity + " instead");
+        }
+        this.data = new byte[capacity];
+        this.capacity = capacity;
+        this.regions = new ThreadLocal<ByteArrayJava>() {
+            @Override
+            protected ByteArrayJava initialValue() {
+                ByteArrayJava region = new ByteArrayJava(0);
+                region.data = null;
+                return region;
+            }
+        };
+    }
+    
+    /*
+    Set and get functions
+     */
+    public void setEndian(boolean e) {
+        this.endian = e;
+    }
+    
+    public boolean getEndian() {
+        return this.endian;
+    }
+    
+    public int capacity() {
+        return this.capacity;
+    }
+    
+    /*
+    Producer functions, a thread can have one region open at a time and must commit or abort it
+     */
+    public ByteArrayJava reserve(int length) {
+        if (length < 0 || length > this.capacity - HEADER_SIZE) {
+            throw new IllegalArgumentException("Length must be between 0 and " + (this.capacity - HEADER_SIZE) + " but got " + length + " instead");
+        }
+        ByteArrayJava region = this.regions.get();
+        if (region.data != null) {
+            throw new IllegalStateException("Commit or abort the open region first");
+        }
+        int size = HEADER_SIZE + length + 7 & ~7;
+        if ((this.tail.get() & OFFSET_MASK) > this.capacity) { // Full, keeps failed claims from piling up on the tail
+            return null;
+        }
+        long claim = this.tail.getAndAdd(size);
+        long offset = claim & OFFSET_MASK;
+        if (offset + size > this.capacity) {
+            if (offset <= this.capacity) { // The first claim past the end marks where the records stop
+                long epoch = claim >>> OFFSET_BITS << OFFSET_BITS;
+                this.end.compareAndSet(epoch | OFFSET_MASK, epoch | offset);
+            }
+            return null;
+        }
+        region.wrap(this.data, (int) offset + HEADER_SIZE, size - HEADER_SIZE);
+        region.setEndian(this.endian);
+        return region;
+    }
+    
+    public void commit(ByteArrayJava region) {
+        this.publish(region, COMMITTED);
+    }
+    
+    public void abort(ByteArrayJava region) {
+        this.publish(region, ABORTED);
+    }
+    
+    private void publish(ByteArrayJava region, int state) {
+        if (region.data != this.data || region != this.regions.get()) {
+            throw new IllegalArgumentException("Region isn't open on this buffer");
+        }
+        int offset = region.base - HEADER_SIZE;
+        int size = region.limit - offset;
+        ByteViews.putInt(this.data, offset + 4, region.getPosition(), true);
+        region.data = null;
+        Atomics.setVolatile(this.data, offset, 4, state | size, true); // Releases the payload to the consumer
+    }
+    
+    /*
+    Consumer functions, the record returned by poll() is valid until the next call
+     */
+    public ByteArrayJava poll() {
+        for (;;) {
+            int offset = this.readOffset;
+            if (offset + HEADER_SIZE <= this.capacity) {
+                int header = (int) Atomics.getVolatile(this.data, offset, 4, true);
+                if (header != 0) {
+                    int length = ByteViews.getInt(this.data, offset + 4, true);
+                    this.readOffset = offset + (header & SIZE_MASK);
+                    if ((header & ABORTED) != 0) {
+                        continue;
+                    }
+                    this.record.wrap(this.data, offset + HEADER_SIZE, length);
+                    this.record.setEndian(this.endian);
+                    return this.record;
+                }
+            }
+            if (this.end.get() != (this.epoch | offset)) {
+                return null;
+            }
+            this.restart(offset);
+            return null;
+        }
+    }
+    
+    private void restart(int used) {
+        Arrays.fill(this.data, 0, used, (byte) 0); // Old payloads would read as headers where the new slots start
+        long next = this.epoch + (1L << OFFSET_BITS);
+        this.readOffset = 0;
+        this.epoch = next;
+        this.end.set(next | OFFSET_MASK);
+        this.tail.set(next); // Every claim of the old epoch has failed or been consumed by now
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.Zaseth;
+
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/*
+Deflate blocks through java.util.zip, reading and writing the arrays in place. Every thread keeps one
+Deflater per level and one Inflater, they are reset for every block instead of being allocated
+ */
+final class DeflateCompressor implements Compressor {
+    
+    private static final ThreadLocal<Deflater[]> DEFLATERS = new ThreadLocal<Deflater[]>() {
+        @Override
+        protected Deflater[] initialValue() {
+            return new Deflater[10];
+        }
+    };
+    
+    private static final ThreadLocal<Inflater> INFLATERS = new ThreadLocal<Inflater>() {
+        @Override
+        protected Inflater initialValue() {
+            return new Inflater();
+        }
+    };
+    
+    private final int level;
+    
+    DeflateCompressor(int level) {
+        this.level = level;
+    }
+    
+    @Override
+    public int method() {
+        return DEFLATE;
+    }
+    
+    @Override
+    public int maxCompressedLength(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must be positive but got " + length + " instead");
+        }
+        return length + (length >>> 12) + (length >>> 14) + (length >>> 25) + 13; // zlib's deflateBound
+    }
+    
+    @Override
+    public String toString() {
+        return "Compressor.deflate(" + this.level + ")";
+    }
+    
+    /*
+    Compress functions
+     */
+    @Override
+    public int compress(byte[] source, int offset, int length, byte[] target, int targetOffset) {
+        Objects.checkFromIndexSize(offset, length, source.length);
+        int max = this.maxCompressedLength(length);
+        Objects.checkFromIndexSize(targetOffset, max, target.length);
+        Deflater[] deflaters = DEFLATERS.get();
+        Deflater deflater = deflaters[this.level];
+        if (deflater == null) {
+            deflater = deflaters[this.level] = new Deflater(this.level);
+        }
+        deflater.reset();
+        deflater.setInput(source, offset, length);
+        deflater.finish();
+        int n = 0;
+        while (!deflater.finished() && n < max) {
+            n += deflater.deflate(target, targetOffset + n, max - n);
+        }
+        if (!deflater.finished()) {
+            throw new ArrayIndexOutOfBoundsException("Deflated block exceeds " + max + " bytes");
+        }
+        return n;
+    }
+    
+    /*
+    Decompress functions
+     */
+    @Override
+    public void decompress(byte[] source, int offset, int length, byte[] target, int targetOffset, int rawLength) {
+        Objects.checkFromIndexSize(offset, length, source.length);
+        Objects.checkFromIndexSize(targetOffset, rawLength, target.length);
+        Inflater inflater = INFLATERS.get();
+        inflater.reset();
+        inflater.setInput(source, offset, length);
+        int n = 0;
+        try {
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(target, targetOffset + n, rawLength - n);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary() || n == rawLength)) {
+                    break;
+                }
+                n += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Malformed deflate block: " + e.getMessage(), e);
+        }
+        if (!inflater.finished() || n != rawLength || inflater.getRemaining() != 0) {
+            throw new IllegalArgumentException("Block decompressed to " + n + " bytes but expected " + rawLength);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,425 @@
+package com.Zaseth;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/*
+ByteArray stored outside the heap in a direct ByteBuffer. The written bytes can be handed to NIO channels
+through nioBuffer() without copying, and release() frees the native memory without waiting for the GC.
+Growing leaves the old memory to the GC, since views from nioBuffer() may still point at it
+ */
+public class DirectByteArray implements ByteArray {
+    
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+    
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (Exception e) {
+            unsafe = null;
+            invokeCleaner = null;
+            System.getLogger(DirectByteArray.class.getName()).log(System.Logger.Level.WARNING, "Unsafe.invokeCleaner is not available, release() will leave native memory to the GC", e);
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+    
+    private ByteBuffer buffer;
+    
+    private int position;
+    private int count;
+    
+    private int BUFFER_SIZE = 1024;
+    
+    private GrowthPolicy growthPolicy = GrowthPolicy.doubling();
+    
+    private boolean endian;
+    
+    /*
+    Constructor
+     */
+    public DirectByteArray(int length) {
+        this.buffer = ByteBuffer.allocateDirect(length);
+        this.position = 0;
+        this.setEndian(true);
+    }
+    
+    public DirectByteArray() {
+        this.buffer = ByteBuffer.allocateDirect(this.BUFFER_SIZE);
+        this.position = 0;
+        this.setEndian(true);
+    }
+    
+    /*
+    Set, get and constructor functions
+     */
+    public void setEndian(boolean e) {
+        this.endian = e;
+        this.buffer().order(e ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+    }
+    
+    public boolean getEndian() {
+        return this.endian;
+    }
+    
+    public int getPosition() {
+        return this.position;
+    }
+    
+    public void setPosition(int position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position must be positive but got " + position + " instead");
+        }
+        this.position = position;
+    }
+    
+    public int moveLeft(int v) {
+        return this.position -= v;
+    }
+    
+    public int moveRight(int v) {
+        return this.position += v;
+    }
+    
+    public void setGrowthPolicy(GrowthPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Growth policy can't be null");
+        }
+        this.growthPolicy = policy;
+    }
+    
+    public GrowthPolicy getGrowthPolicy() {
+        return this.growthPolicy;
+    }
+    
+    public void ensureWritable(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must be positive but got " + length + " instead");
+        }
+        int required = this.position + length;
+        if (required < 0) {
+            throw new ArrayIndexOutOfBoundsException("Required capacity exceeds the maximum buffer size");
+        }
+        if (required > this.length()) {
+            this.ensureCapacity(required);
+        }
+        if (required > this.count) {
+            this.count = required;
+        }
+    }
+    
+    private void ensureCapacity(int minCapacity) {
+        int newCapacity = this.growthPolicy.newCapacity(this.length(), minCapacity);
+        if (newCapacity < minCapacity) {
+            throw new ArrayIndexOutOfBoundsException("Buffer can't grow beyond " + newCapacity + " bytes");
+        }
+        ByteBuffer old = this.buffer();
+        ByteBuffer grown = ByteBuffer.allocateDirect(newCapacity).order(old.order());
+        old.clear();
+        grown.put(old);
+        grown.clear();
+        this.buffer = grown;
+    }
+    
+    public int length() {
+        return this.buffer().capacity();
+    }
+    
+    /*
+    Data retrieval functions
+     */
+    public int bytesAvailable() {
+        int value = this.length() - this.position;
+        if (value > this.length() || value < 0) {
+            return 0;
+        }
+        if (this.position >= this.length()) {
+            return -1;
+        }
+        return value;
+    }
+    
+    public ByteBuffer nioBuffer() {
+        ByteBuffer view = this.buffer().duplicate().order(this.buffer.order());
+        view.clear();
+        view.limit(Math.max(this.count, this.position));
+        return view;
+    }
+    
+    /*
+    Release functions. release() frees the native memory right away, so every ByteBuffer returned by
+    nioBuffer() before it becomes invalid and must not be used again
+     */
+    public void release() {
+        if (this.buffer != null) {
+            ByteBuffer old = this.buffer;
+            this.buffer = null;
+            free(old);
+        }
+    }
+    
+    public boolean isReleased() {
+        return this.buffer == null;
+    }
+    
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (Exception e) {
+            // Leave the memory to the GC
+        }
+    }
+    
+    /*
+    Help functions
+     */
+    private ByteBuffer buffer() {
+        if (this.buffer == null) {
+            throw new IllegalStateException("Buffer has been released");
+        }
+        return this.buffer;
+    }
+    
+    private void checkInt(long value, int ext, long max, long min) {
+        if (value > max || value < min) {
+            throw new ArrayIndexOutOfBoundsException("Value argument is out of bounds");
+        }
+        this.ensureWritable(ext);
+    }
+    
+    private void checkOffset(int offset, int ext) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset is not uint");
+        }
+        if (offset + ext > this.length()) {
+            throw new ArrayIndexOutOfBoundsException("Trying to access beyond buffer length");
+        }
+    }
+    
+    /*
+    Writing int and uint functions
+     */
+    public void writeInt8(int v) {
+        this.checkInt(v, 1, 0x7f, -0x80);
+        this.buffer.put(this.position++, (byte) v);
+    }
+    
+    public void writeRawByte(int v) {
+        this.ensureWritable(1);
+        this.buffer.put(this.position++, (byte) v);
+    }
+    
+    public void writeInt16(int v) {
+        this.checkInt(v, 2, 0x7fff, -0x8000);
+        this.buffer.putShort(this.position, (short) v);
+        this.position += 2;
+    }
+    
+    public void writeInt24(int v) {
+        this.checkInt(v, 3, 0x7fffff, -0x800000);
+        ByteViews.putInt24(this.buffer, this.position, v, this.endian);
+        this.position += 3;
+    }
+    
+    public void writeInt32(int v) {
+        this.ensureWritable(4);
+        this.buffer.putInt(this.position, v);
+        this.position += 4;
+    }
+    
+    public void writeInt40(long v) {
+        this.ensureWritable(5);
+        ByteViews.putInt40(this.buffer, this.position, v, this.endian);
+        this.position += 5;
+    }
+    
+    public void writeInt48(long v) {
+        this.ensureWritable(6);
+        ByteViews.putInt48(this.buffer, this.position, v, this.endian);
+        this.position += 6;
+    }
+    
+    public void writeInt56(long v) {
+        this.ensureWritable(7);
+        ByteViews.putInt56(this.buffer, this.position, v, this.endian);
+        this.position += 7;
+    }
+    
+    public void writeInt64(long v) {
+        this.ensureWritable(8);
+        this.buffer.putLong(this.position, v);
+        this.position += 8;
+    }
+    
+    public void writeUInt8(int v) {
+        this.checkInt(v, 1, 0xff, 0);
+        this.buffer.put(this.position++, (byte) v);
+    }
+    
+    public void writeUInt16(int v) {
+        this.checkInt(v, 2, 0xffff, 0);
+        this.buffer.putShort(this.position, (short) v);
+        this.position += 2;
+    }
+    
+    public void writeUInt24(int v) {
+        this.checkInt(v, 3, 0xffffff, 0);
+        ByteViews.putInt24(this.buffer, this.position, v, this.endian);
+        this.position += 3;
+    }
+    
+    public void writeUInt32(int v) {
+        this.writeInt32(v);
+    }
+    
+    public void writeUInt40(long v) {
+        this.writeInt40(v);
+    }
+    
+    public void writeUInt48(long v) {
+        this.writeInt48(v);
+    }
+    
+    public void writeUInt56(long v) {
+        this.writeInt56(v);
+    }
+    
+    public void writeUInt64(long v) {
+        this.writeInt64(v);
+    }
+    
+    /*
+    Read int and uint functions
+     */
+    public int readInt8() {
+        this.checkOffset(this.position, 1);
+        return this.buffer.get(this.position++);
+    }
+    
+    public byte readRawByte() {
+        this.checkOffset(this.position, 1);
+        return this.buffer.get(this.position++);
+    }
+    
+    public int readInt16() {
+        this.checkOffset(this.position, 2);
+        int v = this.buffer.getShort(this.position);
+        this.position += 2;
+        return v;
+    }
+    
+    public int readInt24() {
+        this.checkOffset(this.position, 3);
+        int v = ByteViews.getInt24(this.buffer, this.position, this.endian);
+        this.position += 3;
+        return v;
+    }
+    
+    public int readInt32() {
+        this.checkOffset(this.position, 4);
+        int v = this.buffer.getInt(this.position);
+        this.position += 4;
+        return v;
+    }
+    
+    public long readInt40() {
+        this.checkOffset(this.position, 5);
+        long v = ByteViews.getInt40(this.buffer, this.position, this.endian);
+        this.position += 5;
+        return v;
+    }
+    
+    public long readInt48() {
+        this.checkOffset(this.position, 6);
+        long v = ByteViews.getInt48(this.buffer, this.position, this.endian);
+        this.position += 6;
+        return v;
+    }
+    
+    public long readInt56() {
+        this.checkOffset(this.position, 7);
+        long v = ByteViews.getInt56(this.buffer, this.position, this.endian);
+        this.position += 7;
+        return v;
+    }
+    
+    public long readInt64() {
+        this.checkOffset(this.position, 8);
+        long v = this.buffer.getLong(this.position);
+        this.position += 8;
+        return v;
+    }
+    
+    public int readUInt8() {
+        return this.readInt8() & 0xff;
+    }
+    
+    public int readUInt16() {
+        return this.readInt16() & 0xffff;
+    }
+    
+    public int readUInt24() {
+        return this.readInt24() & 0xffffff;
+    }
+    
+    public int readUInt32() {
+        return this.readInt32();
+    }
+    
+    public long readUInt40() {
+        return this.readInt40() & 0xffffffffffL;
+    }
+    
+    public long readUInt48() {
+        return this.readInt48() & 0xffffffffffffL;
+    }
+    
+    public long readUInt56() {
+        return this.readInt56() & 0xffffffffffffffL;
+    }
+    
+    public long readUInt64() {
+        return this.readInt64();
+    }
+    
+    /*
+    Extra write functions
+     */
+    public void writeBytes(byte bytes[], int offset, int length) {
+        if ((offset < 0) || (offset > bytes.length) || (length < 0) || ((offset + length) > bytes.length) || ((offset + length) < 0)) {
+            throw new IndexOutOfBoundsException();
+        } else if (length == 0) {
+            return;
+        }
+        this.ensureWritable(length);
+        ByteBuffer target = this.buffer.duplicate();
+        target.position(this.position);
+        target.put(bytes, offset, length);
+        this.position += length;
+    }
+    
+    /*
+    Extra read functions
+     */
+    public byte[] readBytes(int length) {
+        this.checkOffset(this.position, length);
+        byte bytes[] = new byte[length];
+        ByteBuffer source = this.buffer.duplicate();
+        source.position(this.position);
+        source.get(bytes, 0, length);
+        this.position += length;
+        return bytes;
+    }
+}
\ No newline at end of file
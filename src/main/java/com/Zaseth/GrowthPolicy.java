@@ -0,0 +1,70 @@
+package com.Zaseth;
+
+/*
+Decides how far a buffer grows once a write runs past its capacity
+ */
+public interface GrowthPolicy {
+    
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    
+    int newCapacity(int currentCapacity, int minCapacity);
+    
+    static GrowthPolicy doubling() {
+        return new GrowthPolicy() {
+            @Override
+            public int newCapacity(int currentCapacity, int minCapacity) {
+                int grown = currentCapacity < 16 ? 16 : currentCapacity << 1;
+                if (grown < 0 || grown > MAX_CAPACITY) {
+                    grown = MAX_CAPACITY;
+                }
+                return Math.max(grown, minCapacity);
+            }
+            
+            @Override
+            public String toString() {
+                return "GrowthPolicy.doubling()";
+            }
+        };
+    }
+    
+    static GrowthPolicy fixedStep(final int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Step must be positive but got " + step + " instead");
+        }
+        return new GrowthPolicy() {
+            @Override
+            public int newCapacity(int currentCapacity, int minCapacity) {
+                long grown = (long) currentCapacity + step;
+                if (grown < minCapacity) {
+                    grown += ((minCapacity - grown + step - 1) / step) * step;
+                }
+                return (int) Math.min(grown, MAX_CAPACITY);
+            }
+            
+            @Override
+            public String toString() {
+                return "GrowthPolicy.fixedStep(" + step + ")";
+            }
+        };
+    }
+    
+    static GrowthPolicy capped(final GrowthPolicy policy, final int maxCapacity) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy can't be null");
+        }
+        if (maxCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must be positive but got " + maxCapacity + " instead");
+        }
+        return new GrowthPolicy() {
+            @Override
+            public int newCapacity(int currentCapacity, int minCapacity) {
+                return Math.min(policy.newCapacity(currentCapacity, minCapacity), maxCapacity);
+            }
+            
+            @Override
+            public String toString() {
+                return "GrowthPolicy.capped(" + policy + ", " + maxCapacity + ")";
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.Zaseth;
+
+/*
+ByteArrayJava fixed to little endian. Every multi-byte access uses the little endian view handles directly,
+so there is no endian check left on the read and write paths. setEndian only accepts little endian,
+switching to big endian throws an IllegalArgumentException
+ */
+public final class LittleEndianByteArray extends ByteArrayJava {
+    
+    private static final boolean ORDER = false;
+    
+    /*
+    Constructor
+     */
+    public LittleEndianByteArray(ByteArrayJava buff) {
+        super(buff);
+        this.endian = ORDER;
+    }
+    
+    public LittleEndianByteArray(int length) {
+        super(length);
+        this.endian = ORDER;
+    }
+    
+    public LittleEndianByteArray() {
+        super();
+        this.endian = ORDER;
+    }
+    
+    @Override
+    ByteArrayJava newView() {
+        return new LittleEndianByteArray(this);
+    }
+    
+    /*
+    Set and get functions
+     */
+    @Override
+    public void setEndian(boolean e) {
+        if (e != ORDER) {
+            throw new IllegalArgumentException("LittleEndianByteArray is always little endian");
+        }
+    }
+    
+    /*
+    Writing int and uint functions
+     */
+    @Override
+    public void writeInt16(int v) {
+        ViewAccess.writeInt16(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeInt24(int v) {
+        ViewAccess.writeInt24(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeInt32(int v) {
+        ViewAccess.writeInt32(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeInt40(long v) {
+        ViewAccess.writeInt40(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeInt48(long v) {
+        ViewAccess.writeInt48(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeInt56(long v) {
+        ViewAccess.writeInt56(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeInt64(long v) {
+        ViewAccess.writeInt64(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeUInt16(int v) {
+        ViewAccess.writeUInt16(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeUInt24(int v) {
+        ViewAccess.writeUInt24(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeUInt32(int v) {
+        ViewAccess.writeUInt32(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeUInt40(long v) {
+        ViewAccess.writeUInt40(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeUInt48(long v) {
+        ViewAccess.writeUInt48(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeUInt56(long v) {
+        ViewAccess.writeUInt56(this, v, ORDER);
+    }
+    
+    @Override
+    public void writeUInt64(long v) {
+        ViewAccess.writeUInt64(this, v, ORDER);
+    }
+    
+    /*
+    Read int and uint functions
+     */
+    @Override
+    public int readInt16() {
+        return ViewAccess.readInt16(this, ORDER);
+    }
+    
+    @Override
+    public int readInt24() {
+        return ViewAccess.readInt24(this, ORDER);
+    }
+    
+    @Override
+    public int readInt32() {
+        return ViewAccess.readInt32(this, ORDER);
+    }
+    
+    @Override
+    public long readInt40() {
+        return ViewAccess.readInt40(this, ORDER);
+    }
+    
+    @Override
+    public long readInt48() {
+        return ViewAccess.readInt48(this, ORDER);
+    }
+    
+    @Override
+    public long readInt56() {
+        return ViewAccess.readInt56(this, ORDER);
+    }
+    
+    @Override
+    public long readInt64() {
+        return ViewAccess.readInt64(this, ORDER);
+    }
+    
+    @Override
+    public int readUInt16() {
+        return ViewAccess.readUInt16(this, ORDER);
+    }
+    
+    @Override
+    public int readUInt24() {
+        return ViewAccess.readUInt24(this, ORDER);
+    }
+    
+    @Override
+    public int readUInt32() {
+        return ViewAccess.readUInt32(this, ORDER);
+    }
+    
+    @Override
+    public long readUInt40() {
+        return ViewAccess.readUInt40(this, ORDER);
+    }
+    
+    @Override
+    public long readUInt48() {
+        return ViewAccess.readUInt48(this, ORDER);
+    }
+    
+    @Override
+    public long readUInt56() {
+        return ViewAccess.readUInt56(this, ORDER);
+    }
+    
+    @Override
+    public long readUInt64() {
+        return ViewAccess.readUInt64(this, ORDER);
+    }
+}
\ No newline at end of file
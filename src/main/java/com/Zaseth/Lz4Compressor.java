@@ -0,0 +1,266 @@
+package com.Zaseth;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/*
+LZ4 block format, so blocks can be read by any LZ4 block decoder. Matches are found through a hash table of
+the last position of every 4 byte sequence, the table is kept per thread and cleared for every block.
+Runs without a match are skipped over faster the longer they get
+ */
+final class Lz4Compressor implements Compressor {
+    
+    static final Lz4Compressor INSTANCE = new Lz4Compressor();
+    
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = 65535;
+    private static final int RUN_MASK = 15;
+    private static final int ML_MASK = 15;
+    private static final int SKIP_TRIGGER = 6;
+    private static final int HASH_LOG = 12;
+    
+    private static final ThreadLocal<int[]> TABLES = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[1 << HASH_LOG];
+        }
+    };
+    
+    private Lz4Compressor() {}
+    
+    @Override
+    public int method() {
+        return LZ4;
+    }
+    
+    @Override
+    public int maxCompressedLength(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must be positive but got " + length + " instead");
+        }
+        return length + length / 255 + 16;
+    }
+    
+    @Override
+    public String toString() {
+        return "Compressor.lz4()";
+    }
+    
+    /*
+    Compress functions
+     */
+    @Override
+    public int compress(byte[] source, int offset, int length, byte[] target, int targetOffset) {
+        Objects.checkFromIndexSize(offset, length, source.length);
+        Objects.checkFromIndexSize(targetOffset, this.maxCompressedLength(length), target.length);
+        int end = offset + length;
+        int anchor = offset;
+        int out = targetOffset;
+        if (length > MF_LIMIT) {
+            int[] table = TABLES.get();
+            Arrays.fill(table, offset - MAX_DISTANCE - 1);
+            int matchLimit = end - LAST_LITERALS;
+            int mfLimit = end - MF_LIMIT;
+            int index = offset;
+            table[hash(source, index)] = index++;
+            search:
+            while (true) {
+                int ref;
+                int step = 1;
+                int attempts = 1 << SKIP_TRIGGER;
+                while (true) {
+                    if (index > mfLimit) {
+                        break search;
+                    }
+                    int h = hash(source, index);
+                    ref = table[h];
+                    table[h] = index;
+                    if (index - ref <= MAX_DISTANCE && readInt(source, ref) == readInt(source, index)) {
+                        break;
+                    }
+                    index += step;
+                    step = attempts++ >>> SKIP_TRIGGER;
+                }
+                while (index > anchor && ref > offset && source[index - 1] == source[ref - 1]) {
+                    index--;
+                    ref--;
+                }
+                int token = out++;
+                target[token] = 0;
+                int literals = index - anchor;
+                out = writeLength(target, out, token, literals, RUN_MASK, 4);
+                System.arraycopy(source, anchor, target, out, literals);
+                out += literals;
+                while (true) {
+                    int distance = index - ref;
+                    target[out++] = (byte) distance;
+                    target[out++] = (byte) (distance >>> 8);
+                    index += MIN_MATCH;
+                    int matched = matchLength(source, index, ref + MIN_MATCH, matchLimit);
+                    index += matched;
+                    out = writeLength(target, out, token, matched, ML_MASK, 0);
+                    anchor = index;
+                    if (index > mfLimit) {
+                        break search;
+                    }
+                    table[hash(source, index - 2)] = index - 2;
+                    int h = hash(source, index);
+                    ref = table[h];
+                    table[h] = index;
+                    if (index - ref > MAX_DISTANCE || readInt(source, ref) != readInt(source, index)) {
+                        index++;
+                        break;
+                    }
+                    token = out++;
+                    target[token] = 0;
+                }
+            }
+        }
+        int literals = end - anchor;
+        int token = out++;
+        target[token] = 0;
+        out = writeLength(target, out, token, literals, RUN_MASK, 4);
+        System.arraycopy(source, anchor, target, out, literals);
+        return out + literals - targetOffset;
+    }
+    
+    /*
+    Decompress functions
+     */
+    @Override
+    public void decompress(byte[] source, int offset, int length, byte[] target, int targetOffset, int rawLength) {
+        Objects.checkFromIndexSize(offset, length, source.length);
+        Objects.checkFromIndexSize(targetOffset, rawLength, target.length);
+        int in = offset;
+        int end = offset + length;
+        int out = targetOffset;
+        int outEnd = targetOffset + rawLength;
+        while (true) {
+            if (in >= end) {
+                throw malformed(in - offset);
+            }
+            int token = source[in++] & 0xff;
+            int literals = token >>> 4;
+            if (literals == RUN_MASK) {
+                int b;
+                do {
+                    if (in >= end) {
+                        throw malformed(in - offset);
+                    }
+                    b = source[in++] & 0xff;
+                    literals += b;
+                    // Checked on every byte so a long run of 255 can't overflow the length
+                    if (literals > outEnd - out) {
+                        throw malformed(in - offset);
+                    }
+                } while (b == 255);
+            }
+            if (literals > end - in || literals > outEnd - out) {
+                throw malformed(in - offset);
+            }
+            System.arraycopy(source, in, target, out, literals);
+            in += literals;
+            out += literals;
+            if (in == end) {
+                break;
+            }
+            if (end - in < 2) {
+                throw malformed(in - offset);
+            }
+            int distance = (source[in] & 0xff) | (source[in + 1] & 0xff) << 8;
+            in += 2;
+            if (distance == 0 || distance > out - targetOffset) {
+                throw malformed(in - offset);
+            }
+            int matched = token & ML_MASK;
+            if (matched == ML_MASK) {
+                int b;
+                do {
+                    if (in >= end) {
+                        throw malformed(in - offset);
+                    }
+                    b = source[in++] & 0xff;
+                    matched += b;
+                    // Checked on every byte so a long run of 255 can't overflow the length
+                    if (matched > outEnd - out) {
+                        throw malformed(in - offset);
+                    }
+                } while (b == 255);
+            }
+            matched += MIN_MATCH;
+            if (matched > outEnd - out) {
+                throw malformed(in - offset);
+            }
+            copyMatch(target, out, distance, matched);
+            out += matched;
+        }
+        if (out != outEnd) {
+            throw new IllegalArgumentException("Block decompressed to " + (out - targetOffset) + " bytes but expected " + rawLength);
+        }
+    }
+    
+    /*
+    Help functions
+     */
+    private static int hash(byte[] data, int index) {
+        return readInt(data, index) * -1640531535 >>> 32 - HASH_LOG;
+    }
+    
+    private static int readInt(byte[] data, int index) {
+        return ByteViews.getInt(data, index, false);
+    }
+    
+    private static int matchLength(byte[] data, int index, int ref, int limit) {
+        int start = index;
+        while (index <= limit - 8) {
+            long diff = ByteViews.getLong(data, index, false) ^ ByteViews.getLong(data, ref, false);
+            if (diff != 0) {
+                return index - start + (Long.numberOfTrailingZeros(diff) >>> 3);
+            }
+            index += 8;
+            ref += 8;
+        }
+        while (index < limit && data[index] == data[ref]) {
+            index++;
+            ref++;
+        }
+        return index - start;
+    }
+    
+    private static int writeLength(byte[] target, int out, int token, int length, int mask, int shift) {
+        if (length < mask) {
+            target[token] |= (byte) (length << shift);
+            return out;
+        }
+        target[token] |= (byte) (mask << shift);
+        length -= mask;
+        while (length >= 255) {
+            target[out++] = (byte) 255;
+            length -= 255;
+        }
+        target[out++] = (byte) length;
+        return out;
+    }
+    
+    private static void copyMatch(byte[] data, int out, int distance, int length) {
+        int from = out - distance;
+        if (distance >= length) {
+            System.arraycopy(data, from, data, out, length);
+            return;
+        }
+        // Overlapping match, the copied bytes repeat every distance bytes so the run can double each step
+        int copied = 0;
+        while (copied < length) {
+            int n = Math.min(distance + copied, length - copied);
+            System.arraycopy(data, from, data, out + copied, n);
+            copied += n;
+        }
+    }
+    
+    
+    private static IllegalArgumentException malformed(int index) {
+        return new IllegalArgumentException("Malformed LZ4 block at byte " + index);
+    }
+}
\ No newline at end of file
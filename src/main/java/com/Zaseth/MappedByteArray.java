@@ -0,0 +1,406 @@
+package com.Zaseth;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+Memory mapped file read and written in place, every access goes straight to the page cache. Files above
+2 GB are mapped in chunks addressed by a long position. Each chunk overlaps the next by 7 bytes, so any
+value up to 8 bytes is a single access on one mapping no matter where it starts
+ */
+public class MappedByteArray implements ByteInput, ByteOutput, Closeable {
+    
+    private static final int CHUNK_SIZE = 1 << 30;
+    
+    private final FileChannel channel;
+    private final FileChannel.MapMode mode;
+    private MappedByteBuffer[] chunks;
+    private final int chunkShift;
+    private final long chunkMask;
+    private final long size;
+    
+    private long position;
+    
+    private boolean endian;
+    
+    /*
+    Constructor
+     */
+    private MappedByteArray(FileChannel channel, FileChannel.MapMode mode, long size, int chunkSize) throws IOException {
+        this.channel = channel;
+        this.mode = mode;
+        this.size = size;
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+        this.chunkMask = chunkSize - 1;
+        int count = size == 0 ? 0 : (int) ((size - 1 >>> this.chunkShift) + 1);
+        this.chunks = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long start = (long) i << this.chunkShift;
+            this.chunks[i] = channel.map(mode, start, Math.min(size - start, chunkSize + 7L));
+        }
+        this.setEndian(true);
+    }
+    
+    public static MappedByteArray open(Path file) throws IOException {
+        return open(file, FileChannel.MapMode.READ_ONLY, -1, CHUNK_SIZE);
+    }
+    
+    public static MappedByteArray open(Path file, long size) throws IOException {
+        return open(file, FileChannel.MapMode.READ_WRITE, size, CHUNK_SIZE);
+    }
+    
+    public static MappedByteArray open(Path file, FileChannel.MapMode mode, long size, int chunkSize) throws IOException {
+        if (chunkSize < 8 || chunkSize > CHUNK_SIZE || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("Chunk size must be a power of two up to " + CHUNK_SIZE + " but got " + chunkSize + " instead");
+        }
+        FileChannel channel;
+        if (mode == FileChannel.MapMode.READ_ONLY) {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } else if (mode == FileChannel.MapMode.READ_WRITE) {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        } else {
+            throw new IllegalArgumentException("Only read only and read write mappings are supported");
+        }
+        try {
+            if (size < 0) {
+                size = channel.size();
+            } else if (mode == FileChannel.MapMode.READ_ONLY && size > channel.size()) {
+                throw new IllegalArgumentException("Size must be within the file length of " + channel.size() + " but got " + size + " instead");
+            }
+            return new MappedByteArray(channel, mode, size, chunkSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    /*
+    Set and get functions
+     */
+    public void setEndian(boolean e) {
+        this.endian = e;
+        ByteOrder order = e ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+        for (MappedByteBuffer chunk : this.chunks()) {
+            chunk.order(order);
+        }
+    }
+    
+    public boolean getEndian() {
+        return this.endian;
+    }
+    
+    public long getPosition() {
+        return this.position;
+    }
+    
+    public void setPosition(long position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position must be positive but got " + position + " instead");
+        }
+        this.position = position;
+    }
+    
+    public long moveLeft(long v) {
+        return this.position -= v;
+    }
+    
+    public long moveRight(long v) {
+        return this.position += v;
+    }
+    
+    public long length() {
+        return this.size;
+    }
+    
+    /*
+    Data retrieval functions
+     */
+    public long bytesAvailable() {
+        return Math.max(0, this.size - this.position);
+    }
+    
+    public void force() {
+        if (this.mode == FileChannel.MapMode.READ_WRITE) {
+            for (MappedByteBuffer chunk : this.chunks()) {
+                chunk.force();
+            }
+        }
+    }
+    
+    public boolean isClosed() {
+        return this.chunks == null;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (this.chunks == null) {
+            return;
+        }
+        MappedByteBuffer[] old = this.chunks;
+        this.chunks = null;
+        for (MappedByteBuffer chunk : old) {
+            DirectByteArray.free(chunk);
+        }
+        this.channel.close();
+    }
+    
+    /*
+    Help functions
+     */
+    private MappedByteBuffer[] chunks() {
+        if (this.chunks == null) {
+            throw new IllegalStateException("File has been unmapped");
+        }
+        return this.chunks;
+    }
+    
+    private void checkOffset(int ext) {
+        if (this.position < 0) {
+            throw new IllegalArgumentException("Offset is not uint");
+        }
+        if (this.position + ext > this.size) {
+            throw new ArrayIndexOutOfBoundsException("Trying to access beyond buffer length");
+        }
+    }
+    
+    private MappedByteBuffer chunk(int ext) {
+        MappedByteBuffer[] chunks = this.chunks();
+        this.checkOffset(ext);
+        return chunks[(int) (this.position >>> this.chunkShift)];
+    }
+    
+    private int offset() {
+        return (int) (this.position & this.chunkMask);
+    }
+    
+    private MappedByteBuffer checkInt(long value, int ext, long max, long min) {
+        if (value > max || value < min) {
+            throw new ArrayIndexOutOfBoundsException("Value argument is out of bounds");
+        }
+        return this.chunk(ext);
+    }
+    
+    /*
+    Writing int and uint functions
+     */
+    public void writeInt8(int v) {
+        this.checkInt(v, 1, 0x7f, -0x80).put(this.offset(), (byte) v);
+        this.position++;
+    }
+    
+    public void writeRawByte(int v) {
+        this.chunk(1).put(this.offset(), (byte) v);
+        this.position++;
+    }
+    
+    public void writeInt16(int v) {
+        this.checkInt(v, 2, 0x7fff, -0x8000).putShort(this.offset(), (short) v);
+        this.position += 2;
+    }
+    
+    public void writeInt24(int v) {
+        ByteViews.putInt24(this.checkInt(v, 3, 0x7fffff, -0x800000), this.offset(), v, this.endian);
+        this.position += 3;
+    }
+    
+    public void writeInt32(int v) {
+        this.chunk(4).putInt(this.offset(), v);
+        this.position += 4;
+    }
+    
+    public void writeInt40(long v) {
+        ByteViews.putInt40(this.chunk(5), this.offset(), v, this.endian);
+        this.position += 5;
+    }
+    
+    public void writeInt48(long v) {
+        ByteViews.putInt48(this.chunk(6), this.offset(), v, this.endian);
+        this.position += 6;
+    }
+    
+    public void writeInt56(long v) {
+        ByteViews.putInt56(this.chunk(7), this.offset(), v, this.endian);
+        this.position += 7;
+    }
+    
+    public void writeInt64(long v) {
+        this.chunk(8).putLong(this.offset(), v);
+        this.position += 8;
+    }
+    
+    public void writeUInt8(int v) {
+        this.checkInt(v, 1, 0xff, 0).put(this.offset(), (byte) v);
+        this.position++;
+    }
+    
+    public void writeUInt16(int v) {
+        this.checkInt(v, 2, 0xffff, 0).putShort(this.offset(), (short) v);
+        this.position += 2;
+    }
+    
+    public void writeUInt24(int v) {
+        ByteViews.putInt24(this.checkInt(v, 3, 0xffffff, 0), this.offset(), v, this.endian);
+        this.position += 3;
+    }
+    
+    public void writeUInt32(int v) {
+        this.writeInt32(v);
+    }
+    
+    public void writeUInt40(long v) {
+        this.writeInt40(v);
+    }
+    
+    public void writeUInt48(long v) {
+        this.writeInt48(v);
+    }
+    
+    public void writeUInt56(long v) {
+        this.writeInt56(v);
+    }
+    
+    public void writeUInt64(long v) {
+        this.writeInt64(v);
+    }
+    
+    /*
+    Read int and uint functions
+     */
+    public int readInt8() {
+        byte v = this.chunk(1).get(this.offset());
+        this.position++;
+        return v;
+    }
+    
+    public byte readRawByte() {
+        byte v = this.chunk(1).get(this.offset());
+        this.position++;
+        return v;
+    }
+    
+    public int readInt16() {
+        int v = this.chunk(2).getShort(this.offset());
+        this.position += 2;
+        return v;
+    }
+    
+    public int readInt24() {
+        int v = ByteViews.getInt24(this.chunk(3), this.offset(), this.endian);
+        this.position += 3;
+        return v;
+    }
+    
+    public int readInt32() {
+        int v = this.chunk(4).getInt(this.offset());
+        this.position += 4;
+        return v;
+    }
+    
+    public long readInt40() {
+        long v = ByteViews.getInt40(this.chunk(5), this.offset(), this.endian);
+        this.position += 5;
+        return v;
+    }
+    
+    public long readInt48() {
+        long v = ByteViews.getInt48(this.chunk(6), this.offset(), this.endian);
+        this.position += 6;
+        return v;
+    }
+    
+    public long readInt56() {
+        long v = ByteViews.getInt56(this.chunk(7), this.offset(), this.endian);
+        this.position += 7;
+        return v;
+    }
+    
+    public long readInt64() {
+        long v = this.chunk(8).getLong(this.offset());
+        this.position += 8;
+        return v;
+    }
+    
+    public int readUInt8() {
+        return this.readInt8() & 0xff;
+    }
+    
+    public int readUInt16() {
+        return this.readInt16() & 0xffff;
+    }
+    
+    public int readUInt24() {
+        return this.readInt24() & 0xffffff;
+    }
+    
+    public int readUInt32() {
+        return this.readInt32();
+    }
+    
+    public long readUInt40() {
+        return this.readInt40() & 0xffffffffffL;
+    }
+    
+    public long readUInt48() {
+        return this.readInt48() & 0xffffffffffffL;
+    }
+    
+    public long readUInt56() {
+        return this.readInt56() & 0xffffffffffffffL;
+    }
+    
+    public long readUInt64() {
+        return this.readInt64();
+    }
+    
+    /*
+    Extra write functions
+     */
+    public void writeBytes(byte bytes[], int offset, int length) {
+        if ((offset < 0) || (offset > bytes.length) || (length < 0) || ((offset + length) > bytes.length) || ((offset + length) < 0)) {
+            throw new IndexOutOfBoundsException();
+        } else if (length == 0) {
+            return;
+        }
+        MappedByteBuffer[] chunks = this.chunks();
+        this.checkOffset(length);
+        while (length > 0) {
+            ByteBuffer target = chunks[(int) (this.position >>> this.chunkShift)].duplicate();
+            int at = this.offset();
+            int n = (int) Math.min(length, this.chunkMask + 1 - at);
+            target.position(at);
+            target.put(bytes, offset, n);
+            this.position += n;
+            offset += n;
+            length -= n;
+        }
+    }
+    
+    /*
+    Extra read functions
+     */
+    public byte[] readBytes(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must be positive but got " + length + " instead");
+        }
+        MappedByteBuffer[] chunks = this.chunks();
+        this.checkOffset(length);
+        byte bytes[] = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            ByteBuffer source = chunks[(int) (this.position >>> this.chunkShift)].duplicate();
+            int at = this.offset();
+            int n = (int) Math.min(length - offset, this.chunkMask + 1 - at);
+            source.position(at);
+            source.get(bytes, offset, n);
+            this.position += n;
+            offset += n;
+        }
+        return bytes;
+    }
+}
\ No newline at end of file
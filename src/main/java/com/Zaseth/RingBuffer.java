@@ -0,0 +1,148 @@
+package com.Zaseth;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/*
+Channel of varint length prefixed records from one producer thread to one consumer thread, without locks
+or allocation. The producer claims records and makes them visible with publish(), the consumer polls them
+and hands the space back with release(), so a batch costs one ordered store on each side. Positions are
+sequence numbers that wrap around the ring, a record that runs past the end continues in a slack area
+after it instead of the front, so every record is one contiguous ByteArrayJava view. Each side keeps its
+counters on its own cache line and only reads the other side's counter when the cached copy runs out
+ */
+public class RingBuffer {
+    
+    private static final int MAX_PREFIX = 5;
+    private static final VarHandle SEQUENCE;
+    
+    static {
+        try {
+            SEQUENCE = MethodHandles.lookup().findVarHandle(Fields.class, "sequence", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    private final byte[] data;
+    private final int capacity;
+    private final int mask;
+    private final int maxRecordLength;
+    
+    private final Counter producer = new Counter();
+    private final Counter consumer = new Counter();
+    private final ByteArrayJava region = new ByteArrayJava(0);
+    private final ByteArrayJava record = new ByteArrayJava(0);
+    
+    private volatile boolean endian = true;
+    
+    /*
+    Constructor
+     */
+    public RingBuffer(int capacity) {
+        this(capacity, capacity >>> 2);
+    }
+    
+    public RingBuffer(int capacity, int maxRecordLength) {
+        if (capacity < 8 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two of at least 8 but got " + capacity + " instead");
+        }
+        if (maxRecordLength < 0 || maxRecordLength > capacity - MAX_PREFIX || capacity + maxRecordLength + MAX_PREFIX < 0) {
+            throw new IllegalArgumentException("Maximum record length must be between 0 and " + (capacity - MAX_PREFIX) + " but got " + maxRecordLength + " instead");
+        }
+        this.data = new byte[capacity + maxRecordLength + MAX_PREFIX];
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.maxRecordLength = maxRecordLength;
+    }
+    
+    /*
+    Set and get functions
+     */
+    public void setEndian(boolean e) {
+        this.endian = e;
+    }
+    
+    public boolean getEndian() {
+        return this.endian;
+    }
+    
+    public int capacity() {
+        return this.capacity;
+    }
+    
+    public int getMaxRecordLength() {
+        return this.maxRecordLength;
+    }
+    
+    /*
+    Producer functions, the region returned by claim() is valid until the next claim
+     */
+    public ByteArrayJava claim(int length) {
+        if (length < 0 || length > this.maxRecordLength) {
+            throw new IllegalArgumentException("Length must be between 0 and " + this.maxRecordLength + " but got " + length + " instead");
+        }
+        Counter producer = this.producer;
+        long tail = producer.position;
+        long end = tail + VarInts.sizeOf32(length) + length;
+        if (end - producer.cache > this.capacity) {
+            producer.cache = (long) SEQUENCE.getAcquire(this.consumer);
+            if (end - producer.cache > this.capacity) {
+                return null;
+            }
+        }
+        int index = VarInts.putVarInt32(this.data, (int) tail & this.mask, length);
+        this.region.wrap(this.data, index, length);
+        this.region.setEndian(this.endian);
+        producer.position = end;
+        return this.region;
+    }
+    
+    public void publish() {
+        SEQUENCE.setRelease(this.producer, this.producer.position);
+    }
+    
+    /*
+    Consumer functions, the record returned by poll() is valid until the next poll
+     */
+    public ByteArrayJava poll() {
+        Counter consumer = this.consumer;
+        long head = consumer.position;
+        if (head == consumer.cache) {
+            consumer.cache = (long) SEQUENCE.getAcquire(this.producer);
+            if (head == consumer.cache) {
+                return null;
+            }
+        }
+        ByteArrayJava record = this.record;
+        int index = (int) head & this.mask;
+        record.wrap(this.data, index, MAX_PREFIX);
+        int length = record.readVarInt32();
+        int start = record.position;
+        record.wrap(this.data, start, length);
+        record.setEndian(this.endian);
+        consumer.position = head + (start - index) + length;
+        return record;
+    }
+    
+    public void release() {
+        SEQUENCE.setRelease(this.consumer, this.consumer.position);
+    }
+    
+    /*
+    Counters padded on both sides so the producer and consumer never write the same cache line
+     */
+    private static class Padding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+    
+    private static class Fields extends Padding {
+        long sequence; // Published position, read by the other side
+        long position; // Position of the next claim or poll
+        long cache; // Last sequence seen from the other side
+    }
+    
+    private static final class Counter extends Fields {
+        long p11, p12, p13, p14, p15, p16, p17;
+    }
+}
\ No newline at end of file
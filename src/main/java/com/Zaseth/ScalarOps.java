@@ -0,0 +1,83 @@
+package com.Zaseth;
+
+import java.util.Arrays;
+
+/*
+Scalar versions of the bulk operations in BulkOps, used when the vector API isn't available. Zeros are
+counted 8 bytes at a time and mismatch goes through Arrays.mismatch, which the JDK already compiles to
+wide compares
+ */
+final class ScalarOps {
+    
+    private static final long LOW_BITS = 0x7f7f7f7f7f7f7f7fL;
+    
+    private ScalarOps() {}
+    
+    static int countZeros(byte[] data, int from, int to) {
+        int count = 0;
+        int i = from;
+        for (; i <= to - 8; i += 8) {
+            long v = ByteViews.getLong(data, i, false);
+            // The high bit of a byte ends up set unless the whole byte was zero
+            count += Long.bitCount(~((v & LOW_BITS) + LOW_BITS | v | LOW_BITS));
+        }
+        for (; i < to; i++) {
+            if (data[i] == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    static int indexOf(byte[] data, int from, int to, byte value) {
+        long pattern = (value & 0xffL) * 0x0101010101010101L;
+        int i = from;
+        for (; i <= to - 8; i += 8) {
+            long v = ByteViews.getLong(data, i, false) ^ pattern;
+            long found = ~((v & LOW_BITS) + LOW_BITS | v | LOW_BITS);
+            if (found != 0) {
+                // Little endian, so the lowest set bit belongs to the first match
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    static void swap(byte[] data, int index, int length, int width) {
+        int end = index + length;
+        if (width == 2) {
+            for (int i = index; i < end; i += 2) {
+                ByteViews.putShort(data, i, ByteViews.getShort(data, i, false), true);
+            }
+        } else if (width == 4) {
+            for (int i = index; i < end; i += 4) {
+                ByteViews.putInt(data, i, ByteViews.getInt(data, i, false), true);
+            }
+        } else {
+            for (int i = index; i < end; i += 8) {
+                ByteViews.putLong(data, i, ByteViews.getLong(data, i, false), true);
+            }
+        }
+    }
+    
+    static int mismatch(byte[] a, int aIndex, byte[] b, int bIndex, int length) {
+        return Arrays.mismatch(a, aIndex, aIndex + length, b, bIndex, bIndex + length);
+    }
+    
+    static void unpack(long[] words, int width, long min, long[] values, int offset, int from, int to) {
+        long mask = -1L >>> 64 - width;
+        // No branch per value, the loop only depends on the width so it unrolls well. Bits that straddle two words
+        // are shifted in two steps so a shift of 0 adds nothing
+        for (int i = from; i < to; i++) {
+            int bit = i * width;
+            int shift = bit & 63;
+            long v = words[bit >>> 6] >>> shift | words[(bit >>> 6) + 1] << 1 << 63 - shift;
+            values[offset + i] = (v & mask) + min;
+        }
+    }
+}
\ No newline at end of file
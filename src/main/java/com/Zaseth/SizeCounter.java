@@ -0,0 +1,230 @@
+package com.Zaseth;
+
+import java.io.UTFDataFormatException;
+import java.util.Objects;
+
+/*
+ByteOutput that only counts the bytes written to it. Run a message's write code against it first, then
+allocate() a buffer of exactly that size and run it again, so the buffer never grows or needs trimming.
+Fixed width values aren't range checked here, the real write does that. Int29, UInt29 and UTF strings go
+through ByteSizes and throw like the real write, their size depends on the value being valid
+ */
+public class SizeCounter implements ByteOutput {
+    
+    private long size;
+    
+    private boolean endian;
+    
+    /*
+    Constructor
+     */
+    public SizeCounter() {
+        this.endian = true;
+    }
+    
+    public SizeCounter(boolean endian) {
+        this.endian = endian;
+    }
+    
+    /*
+    Set and get functions
+     */
+    public void setEndian(boolean e) {
+        this.endian = e;
+    }
+    
+    public boolean getEndian() {
+        return this.endian;
+    }
+    
+    public long size() {
+        return this.size;
+    }
+    
+    public void reset() {
+        this.size = 0;
+    }
+    
+    public ByteArrayJava allocate() {
+        if (this.size > Integer.MAX_VALUE) {
+            throw new ArrayIndexOutOfBoundsException("Required capacity exceeds the maximum array size");
+        }
+        ByteArrayJava buffer = new ByteArrayJava((int) this.size);
+        buffer.setEndian(this.endian);
+        return buffer;
+    }
+    
+    @Override
+    public String toString() {
+        return "Size: " + this.size;
+    }
+    
+    /*
+    Writing int and uint functions
+     */
+    public void writeInt8(int v) {
+        this.size += ByteSizes.INT8;
+    }
+    
+    public void writeRawByte(int v) {
+        this.size += ByteSizes.INT8;
+    }
+    
+    public void writeInt16(int v) {
+        this.size += ByteSizes.INT16;
+    }
+    
+    public void writeInt24(int v) {
+        this.size += ByteSizes.INT24;
+    }
+    
+    public void writeInt32(int v) {
+        this.size += ByteSizes.INT32;
+    }
+    
+    public void writeInt40(long v) {
+        this.size += ByteSizes.INT40;
+    }
+    
+    public void writeInt48(long v) {
+        this.size += ByteSizes.INT48;
+    }
+    
+    public void writeInt56(long v) {
+        this.size += ByteSizes.INT56;
+    }
+    
+    public void writeInt64(long v) {
+        this.size += ByteSizes.INT64;
+    }
+    
+    public void writeUInt8(int v) {
+        this.size += ByteSizes.INT8;
+    }
+    
+    public void writeUInt16(int v) {
+        this.size += ByteSizes.INT16;
+    }
+    
+    public void writeUInt24(int v) {
+        this.size += ByteSizes.INT24;
+    }
+    
+    public void writeUInt32(int v) {
+        this.size += ByteSizes.INT32;
+    }
+    
+    public void writeUInt40(long v) {
+        this.size += ByteSizes.INT40;
+    }
+    
+    public void writeUInt48(long v) {
+        this.size += ByteSizes.INT48;
+    }
+    
+    public void writeUInt56(long v) {
+        this.size += ByteSizes.INT56;
+    }
+    
+    public void writeUInt64(long v) {
+        this.size += ByteSizes.INT64;
+    }
+    
+    @Override
+    public void writeInt29(int v) {
+        this.size += ByteSizes.sizeOfInt29(v);
+    }
+    
+    @Override
+    public void writeUInt29(int v) {
+        this.size += ByteSizes.sizeOfUInt29(v);
+    }
+    
+    /*
+    Writing varint and varuint functions
+     */
+    @Override
+    public void write7BitEncodedInt(int value) {
+        this.size += ByteSizes.sizeOf7BitEncodedInt(value);
+    }
+    
+    @Override
+    public void write7BitEncodedLong(long value) {
+        this.size += ByteSizes.sizeOf7BitEncodedLong(value);
+    }
+    
+    @Override
+    public void writeVarInt32(int value) {
+        this.size += ByteSizes.sizeOfVarInt32(value);
+    }
+    
+    @Override
+    public void writeVarInt64(long value) {
+        this.size += ByteSizes.sizeOfVarInt64(value);
+    }
+    
+    @Override
+    public void writeVarUInt32(int value) {
+        this.size += ByteSizes.sizeOfVarUInt32(value);
+    }
+    
+    @Override
+    public void writeVarUInt64(long value) {
+        this.size += ByteSizes.sizeOfVarUInt64(value);
+    }
+    
+    /*
+    Writing array functions
+     */
+    @Override
+    public void writeInt32Array(int[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.size += (long) length * ByteSizes.INT32;
+    }
+    
+    @Override
+    public void writeInt64Array(long[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.size += (long) length * ByteSizes.INT64;
+    }
+    
+    @Override
+    public void writeFloatArray(float[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.size += (long) length * ByteSizes.FLOAT;
+    }
+    
+    @Override
+    public void writeDoubleArray(double[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.size += (long) length * ByteSizes.DOUBLE;
+    }
+    
+    @Override
+    public void writeVarInt32Array(int[] values, int offset, int length) {
+        this.size += ByteSizes.sizeOfVarInt32Array(values, offset, length);
+    }
+    
+    @Override
+    public void writeVarInt64Array(long[] values, int offset, int length) {
+        this.size += ByteSizes.sizeOfVarInt64Array(values, offset, length);
+    }
+    
+    /*
+    Extra write functions
+     */
+    @Override
+    public void writeUTF(String s) throws UTFDataFormatException {
+        this.size += ByteSizes.sizeOfUTF(s);
+    }
+    
+    @Override
+    public void writeMultiByte(String v, String charset) {
+        this.size += ByteSizes.sizeOfMultiByte(v, charset);
+    }
+    
+    public void writeBytes(byte bytes[], int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        this.size += length;
+    }
+}
\ No newline at end of file
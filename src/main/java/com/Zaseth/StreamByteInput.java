@@ -0,0 +1,331 @@
+package com.Zaseth;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+
+/*
+Reads an InputStream or a ReadableByteChannel through a fixed size window which is refilled on demand,
+so input of any length is decoded with constant memory. Values are decoded straight from the window,
+only the bytes that are left over are moved to the front before a refill. Channels must be in blocking
+mode, a read that returns no bytes throws instead of being retried
+ */
+public class StreamByteInput implements ByteInput, Closeable {
+    
+    private final InputStream in;
+    private final ReadableByteChannel channel;
+    private final ByteBuffer channelBuffer;
+    
+    private final byte[] window;
+    private int start;
+    private int end;
+    private long consumed;
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    private boolean endian;
+    
+    /*
+    Constructor
+     */
+    public StreamByteInput(InputStream in) {
+        this(in, BUFFER_SIZE);
+    }
+    
+    public StreamByteInput(InputStream in, int windowSize) {
+        if (in == null) {
+            throw new IllegalArgumentException("Input stream can't be null");
+        }
+        this.window = newWindow(windowSize);
+        this.in = in;
+        this.channel = null;
+        this.channelBuffer = null;
+        this.endian = true;
+    }
+    
+    public StreamByteInput(ReadableByteChannel channel) {
+        this(channel, BUFFER_SIZE);
+    }
+    
+    public StreamByteInput(ReadableByteChannel channel, int windowSize) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel can't be null");
+        }
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalArgumentException("Channel must be in blocking mode");
+        }
+        this.window = newWindow(windowSize);
+        this.in = null;
+        this.channel = channel;
+        this.channelBuffer = ByteBuffer.wrap(this.window);
+        this.endian = true;
+    }
+    
+    private static byte[] newWindow(int windowSize) {
+        if (windowSize < 16) {
+            throw new IllegalArgumentException("Window size must be at least 16 but got " + windowSize + " instead");
+        }
+        return new byte[windowSize];
+    }
+    
+    /*
+    Set and get functions
+     */
+    public void setEndian(boolean e) {
+        this.endian = e;
+    }
+    
+    public boolean getEndian() {
+        return this.endian;
+    }
+    
+    public long getPosition() {
+        return this.consumed + this.start;
+    }
+    
+    /*
+    Data retrieval functions
+     */
+    public int bytesBuffered() {
+        return this.end - this.start;
+    }
+    
+    public boolean hasRemaining() {
+        return this.start < this.end || this.fill(1);
+    }
+    
+    public void skip(long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must be positive but got " + length + " instead");
+        }
+        while (length > 0) {
+            this.require(1);
+            int n = (int) Math.min(length, this.end - this.start);
+            this.start += n;
+            length -= n;
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (this.in != null) {
+            this.in.close();
+        } else {
+            this.channel.close();
+        }
+    }
+    
+    /*
+    Help functions
+     */
+    private void require(int ext) {
+        if (this.end - this.start < ext && !this.fill(ext)) {
+            throw new UncheckedIOException(new EOFException("Trying to read beyond the end of the stream"));
+        }
+    }
+    
+    private boolean fill(int ext) {
+        if (this.start > 0) {
+            System.arraycopy(this.window, this.start, this.window, 0, this.end - this.start);
+            this.consumed += this.start;
+            this.end -= this.start;
+            this.start = 0;
+        }
+        while (this.end < ext) {
+            int n = this.read(this.window, this.end, this.window.length - this.end);
+            if (n < 0) {
+                return false;
+            }
+            this.end += n;
+        }
+        return true;
+    }
+    
+    private int read(byte[] bytes, int offset, int length) {
+        int n;
+        try {
+            if (this.in != null) {
+                n = this.in.read(bytes, offset, length);
+            } else {
+                ByteBuffer target = bytes == this.window ? this.channelBuffer : ByteBuffer.wrap(bytes);
+                target.limit(offset + length).position(offset);
+                n = this.channel.read(target);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (n == 0) { // Only a non-blocking source does this, retrying would spin forever
+            throw new UncheckedIOException(new IOException("Read returned no bytes, only blocking input is supported"));
+        }
+        return n;
+    }
+    
+    /*
+    Read int and uint functions
+     */
+    public int readInt8() {
+        this.require(1);
+        return this.window[this.start++];
+    }
+    
+    public byte readRawByte() {
+        this.require(1);
+        return this.window[this.start++];
+    }
+    
+    public int readInt16() {
+        this.require(2);
+        int v = ByteViews.getShort(this.window, this.start, this.endian);
+        this.start += 2;
+        return v;
+    }
+    
+    public int readInt24() {
+        this.require(3);
+        int v = ByteViews.getInt24(this.window, this.start, this.endian);
+        this.start += 3;
+        return v;
+    }
+    
+    public int readInt32() {
+        this.require(4);
+        int v = ByteViews.getInt(this.window, this.start, this.endian);
+        this.start += 4;
+        return v;
+    }
+    
+    public long readInt40() {
+        this.require(5);
+        long v = ByteViews.getInt40(this.window, this.start, this.endian);
+        this.start += 5;
+        return v;
+    }
+    
+    public long readInt48() {
+        this.require(6);
+        long v = ByteViews.getInt48(this.window, this.start, this.endian);
+        this.start += 6;
+        return v;
+    }
+    
+    public long readInt56() {
+        this.require(7);
+        long v = ByteViews.getInt56(this.window, this.start, this.endian);
+        this.start += 7;
+        return v;
+    }
+    
+    public long readInt64() {
+        this.require(8);
+        long v = ByteViews.getLong(this.window, this.start, this.endian);
+        this.start += 8;
+        return v;
+    }
+    
+    public int readUInt8() {
+        return this.readInt8() & 0xff;
+    }
+    
+    public int readUInt16() {
+        return this.readInt16() & 0xffff;
+    }
+    
+    public int readUInt24() {
+        return this.readInt24() & 0xffffff;
+    }
+    
+    public int readUInt32() {
+        return this.readInt32();
+    }
+    
+    public long readUInt40() {
+        return this.readInt40() & 0xffffffffffL;
+    }
+    
+    public long readUInt48() {
+        return this.readInt48() & 0xffffffffffffL;
+    }
+    
+    public long readUInt56() {
+        return this.readInt56() & 0xffffffffffffffL;
+    }
+    
+    public long readUInt64() {
+        return this.readInt64();
+    }
+    
+    /*
+    Varint functions, only bytes already in the window take the fast path so a read never waits for
+    more input than the value needs
+     */
+    @Override
+    public long readVarInt64() {
+        int index = this.start;
+        if (this.end - index >= 10) {
+            byte first = this.window[index];
+            if (first >= 0) {
+                this.start = index + 1;
+                return first;
+            }
+            int length = VarInts.length64(this.window, index);
+            this.start = index + length;
+            return VarInts.getVarInt64(this.window, index, length);
+        }
+        return ByteInput.super.readVarInt64();
+    }
+    
+    /*
+    Extra read functions
+     */
+    @Override
+    public String readUTF() throws UTFDataFormatException {
+        int utfLength = this.readUInt16();
+        if (utfLength > this.window.length) {
+            return StringCodec.getUTF(this.readBytes(utfLength), 0, utfLength);
+        }
+        this.require(utfLength);
+        String v = StringCodec.getUTF(this.window, this.start, utfLength);
+        this.start += utfLength;
+        return v;
+    }
+    
+    public byte[] readBytes(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must be positive but got " + length + " instead");
+        }
+        byte bytes[] = new byte[length];
+        this.readFully(bytes, 0, length);
+        return bytes;
+    }
+    
+    public void readFully(byte bytes[], int offset, int length) {
+        if ((offset < 0) || (offset > bytes.length) || (length < 0) || ((offset + length) > bytes.length) || ((offset + length) < 0)) {
+            throw new IndexOutOfBoundsException();
+        }
+        int n = Math.min(length, this.end - this.start);
+        System.arraycopy(this.window, this.start, bytes, offset, n);
+        this.start += n;
+        offset += n;
+        length -= n;
+        while (length >= this.window.length) { // Large reads bypass the window
+            int read = this.read(bytes, offset, length);
+            if (read < 0) {
+                throw new UncheckedIOException(new EOFException("Trying to read beyond the end of the stream"));
+            }
+            this.consumed += read;
+            offset += read;
+            length -= read;
+        }
+        if (length > 0) {
+            this.require(length);
+            System.arraycopy(this.window, this.start, bytes, offset, length);
+            this.start += length;
+        }
+    }
+}
\ No newline at end of file
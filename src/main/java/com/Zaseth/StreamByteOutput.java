@@ -0,0 +1,305 @@
+package com.Zaseth;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+
+/*
+Writes to an OutputStream or a WritableByteChannel through a fixed size window which is flushed whenever
+the next value doesn't fit, so output of any length is encoded with constant memory. Call flush() or
+close() when done, bytes still in the window are not written otherwise. Channels must be in blocking mode,
+a write that takes no bytes throws instead of being retried
+ */
+public class StreamByteOutput implements ByteOutput, Closeable, Flushable {
+    
+    private final OutputStream out;
+    private final WritableByteChannel channel;
+    private final ByteBuffer channelBuffer;
+    
+    private final byte[] window;
+    private int count;
+    private long flushed;
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    private boolean endian;
+    
+    /*
+    Constructor
+     */
+    public StreamByteOutput(OutputStream out) {
+        this(out, BUFFER_SIZE);
+    }
+    
+    public StreamByteOutput(OutputStream out, int windowSize) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream can't be null");
+        }
+        this.window = newWindow(windowSize);
+        this.out = out;
+        this.channel = null;
+        this.channelBuffer = null;
+        this.endian = true;
+    }
+    
+    public StreamByteOutput(WritableByteChannel channel) {
+        this(channel, BUFFER_SIZE);
+    }
+    
+    public StreamByteOutput(WritableByteChannel channel, int windowSize) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel can't be null");
+        }
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalArgumentException("Channel must be in blocking mode");
+        }
+        this.window = newWindow(windowSize);
+        this.out = null;
+        this.channel = channel;
+        this.channelBuffer = ByteBuffer.wrap(this.window);
+        this.endian = true;
+    }
+    
+    private static byte[] newWindow(int windowSize) {
+        if (windowSize < 16) {
+            throw new IllegalArgumentException("Window size must be at least 16 but got " + windowSize + " instead");
+        }
+        return new byte[windowSize];
+    }
+    
+    /*
+    Set and get functions
+     */
+    public void setEndian(boolean e) {
+        this.endian = e;
+    }
+    
+    public boolean getEndian() {
+        return this.endian;
+    }
+    
+    public long getPosition() {
+        return this.flushed + this.count;
+    }
+    
+    /*
+    Data retrieval functions
+     */
+    public int bytesBuffered() {
+        return this.count;
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        this.write(this.window, 0, this.count);
+        this.flushed += this.count;
+        this.count = 0;
+        if (this.out != null) {
+            this.out.flush();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            this.flush();
+        } finally {
+            if (this.out != null) {
+                this.out.close();
+            } else {
+                this.channel.close();
+            }
+        }
+    }
+    
+    /*
+    Help functions
+     */
+    private void ensure(int ext) {
+        if (this.count + ext > this.window.length) {
+            this.spill();
+        }
+    }
+    
+    private void spill() {
+        try {
+            this.write(this.window, 0, this.count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.flushed += this.count;
+        this.count = 0;
+    }
+    
+    private void write(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return;
+        }
+        if (this.out != null) {
+            this.out.write(bytes, offset, length);
+            return;
+        }
+        ByteBuffer source = bytes == this.window ? this.channelBuffer : ByteBuffer.wrap(bytes);
+        source.limit(offset + length).position(offset);
+        while (source.hasRemaining()) {
+            if (this.channel.write(source) == 0) {
+                throw new IOException("Write took no bytes, only blocking channels are supported");
+            }
+        }
+    }
+    
+    private void checkInt(long value, int ext, long max, long min) {
+        if (value > max || value < min) {
+            throw new ArrayIndexOutOfBoundsException("Value argument is out of bounds");
+        }
+        this.ensure(ext);
+    }
+    
+    /*
+    Writing int and uint functions
+     */
+    public void writeInt8(int v) {
+        this.checkInt(v, 1, 0x7f, -0x80);
+        this.window[this.count++] = (byte) v;
+    }
+    
+    public void writeRawByte(int v) {
+        this.ensure(1);
+        this.window[this.count++] = (byte) v;
+    }
+    
+    public void writeInt16(int v) {
+        this.checkInt(v, 2, 0x7fff, -0x8000);
+        ByteViews.putShort(this.window, this.count, v, this.endian);
+        this.count += 2;
+    }
+    
+    public void writeInt24(int v) {
+        this.checkInt(v, 3, 0x7fffff, -0x800000);
+        ByteViews.putInt24(this.window, this.count, v, this.endian);
+        this.count += 3;
+    }
+    
+    public void writeInt32(int v) {
+        this.ensure(4);
+        ByteViews.putInt(this.window, this.count, v, this.endian);
+        this.count += 4;
+    }
+    
+    public void writeInt40(long v) {
+        this.ensure(5);
+        ByteViews.putInt40(this.window, this.count, v, this.endian);
+        this.count += 5;
+    }
+    
+    public void writeInt48(long v) {
+        this.ensure(6);
+        ByteViews.putInt48(this.window, this.count, v, this.endian);
+        this.count += 6;
+    }
+    
+    public void writeInt56(long v) {
+        this.ensure(7);
+        ByteViews.putInt56(this.window, this.count, v, this.endian);
+        this.count += 7;
+    }
+    
+    public void writeInt64(long v) {
+        this.ensure(8);
+        ByteViews.putLong(this.window, this.count, v, this.endian);
+        this.count += 8;
+    }
+    
+    public void writeUInt8(int v) {
+        this.checkInt(v, 1, 0xff, 0);
+        this.window[this.count++] = (byte) v;
+    }
+    
+    public void writeUInt16(int v) {
+        this.checkInt(v, 2, 0xffff, 0);
+        ByteViews.putShort(this.window, this.count, v, this.endian);
+        this.count += 2;
+    }
+    
+    public void writeUInt24(int v) {
+        this.checkInt(v, 3, 0xffffff, 0);
+        ByteViews.putInt24(this.window, this.count, v, this.endian);
+        this.count += 3;
+    }
+    
+    public void writeUInt32(int v) {
+        this.writeInt32(v);
+    }
+    
+    public void writeUInt40(long v) {
+        this.writeInt40(v);
+    }
+    
+    public void writeUInt48(long v) {
+        this.writeInt48(v);
+    }
+    
+    public void writeUInt56(long v) {
+        this.writeInt56(v);
+    }
+    
+    public void writeUInt64(long v) {
+        this.writeInt64(v);
+    }
+    
+    /*
+    Varint functions
+     */
+    @Override
+    public void writeVarInt32(int value) {
+        this.ensure(VarInts.sizeOf32(value));
+        this.count = VarInts.putVarInt32(this.window, this.count, value);
+    }
+    
+    @Override
+    public void writeVarInt64(long value) {
+        this.ensure(VarInts.sizeOf64(value));
+        this.count = VarInts.putVarInt64(this.window, this.count, value);
+    }
+    
+    /*
+    Extra write functions
+     */
+    @Override
+    public void writeUTF(String s) throws UTFDataFormatException {
+        int utfLength = StringCodec.utfLength(s);
+        if (2 + utfLength > this.window.length) {
+            ByteOutput.super.writeUTF(s);
+            return;
+        }
+        this.ensure(2 + utfLength);
+        ByteViews.putShort(this.window, this.count, utfLength, this.endian);
+        this.count = StringCodec.putUTF(this.window, this.count + 2, s, utfLength);
+    }
+    
+    public void writeBytes(byte bytes[], int offset, int length) {
+        if ((offset < 0) || (offset > bytes.length) || (length < 0) || ((offset + length) > bytes.length) || ((offset + length) < 0)) {
+            throw new IndexOutOfBoundsException();
+        } else if (length == 0) {
+            return;
+        }
+        this.ensure(length);
+        if (length >= this.window.length) { // Large writes bypass the window
+            try {
+                this.write(bytes, offset, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.flushed += length;
+            return;
+        }
+        System.arraycopy(bytes, offset, this.window, this.count, length);
+        this.count += length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.Zaseth;
+
+import java.io.UTFDataFormatException;
+import java.util.Arrays;
+
+/*
+Bounded cache of strings decoded by readUTF, so repeated names and values return one canonical instance
+instead of a new String each time. Lookups hash the encoded bytes in place and compare them against the
+cached copy, a hit allocates nothing. Entries live in sets of 4 and a miss evicts with a clock per set:
+an entry that was hit since the hand last passed it gets a second chance. It may be shared between
+readers on different threads, racing inserts only cost a miss and the counters are approximate then
+ */
+public class StringCache {
+    
+    private static final int WAYS = 4;
+    private static final long SEED = 0x9e3779b97f4a7c15L;
+    
+    private final Entry[] entries;
+    private final byte[] hands;
+    private final int setMask;
+    private final int maxLength;
+    
+    private long hits;
+    private long misses;
+    
+    /*
+    Constructor
+     */
+    public StringCache(int capacity) {
+        this(capacity, 64);
+    }
+    
+    public StringCache(int capacity, int maxLength) {
+        if (capacity < WAYS || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between " + WAYS + " and " + (1 << 30) + " but got " + capacity + " instead");
+        }
+        if (maxLength < 0 || maxLength > StringCodec.MAX_UTF_LENGTH) {
+            throw new IllegalArgumentException("Maximum length must be between 0 and " + StringCodec.MAX_UTF_LENGTH + " but got " + maxLength + " instead");
+        }
+        int sets = Integer.highestOneBit(capacity / WAYS);
+        this.entries = new Entry[sets * WAYS];
+        this.hands = new byte[sets];
+        this.setMask = sets - 1;
+        this.maxLength = maxLength;
+    }
+    
+    /*
+    Lookup functions
+     */
+    public String get(byte[] data, int index, int utfLength) throws UTFDataFormatException {
+        if (utfLength > this.maxLength) {
+            return StringCodec.getUTF(data, index, utfLength);
+        }
+        int hash = hash(data, index, utfLength);
+        int set = (hash & this.setMask) * WAYS;
+        Entry[] entries = this.entries;
+        for (int i = set; i < set + WAYS; i++) {
+            Entry entry = entries[i];
+            if (entry != null && entry.hash == hash && Arrays.equals(entry.bytes, 0, entry.bytes.length, data, index, index + utfLength)) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                this.hits++;
+                return entry.value;
+            }
+        }
+        this.misses++;
+        String value = StringCodec.getUTF(data, index, utfLength);
+        entries[set + this.victim(set)] = new Entry(hash, Arrays.copyOfRange(data, index, index + utfLength), value);
+        return value;
+    }
+    
+    public void clear() {
+        Arrays.fill(this.entries, null);
+        this.hits = 0;
+        this.misses = 0;
+    }
+    
+    /*
+    Data retrieval functions
+     */
+    public int getCapacity() {
+        return this.entries.length;
+    }
+    
+    public int getMaxLength() {
+        return this.maxLength;
+    }
+    
+    public long getHits() {
+        return this.hits;
+    }
+    
+    public long getMisses() {
+        return this.misses;
+    }
+    
+    @Override
+    public String toString() {
+        return "Hits: " + this.getHits() + "\r\nMisses: " + this.getMisses() + "\r\nCapacity: " + this.getCapacity();
+    }
+    
+    /*
+    Help functions
+     */
+    private int victim(int set) {
+        int s = set / WAYS;
+        for (;;) { // Ends within two turns, the first one clears every reference bit
+            int way = this.hands[s];
+            this.hands[s] = (byte) ((way + 1) & (WAYS - 1));
+            Entry entry = this.entries[set + way];
+            if (entry == null || !entry.referenced) {
+                return way;
+            }
+            entry.referenced = false;
+        }
+    }
+    
+    private static int hash(byte[] data, int index, int length) {
+        long h = length * SEED;
+        int end = index + length;
+        for (; end - index >= 8; index += 8) {
+            h = Long.rotateLeft((h ^ ByteViews.getLong(data, index, false)) * SEED, 29);
+        }
+        if (index < end) {
+            long tail = 0;
+            for (int i = end - 1; i >= index; i--) {
+                tail = tail << 8 | data[i] & 0xff;
+            }
+            h = Long.rotateLeft((h ^ tail) * SEED, 29);
+        }
+        h = (h ^ h >>> 32) * SEED;
+        return (int) (h >>> 32);
+    }
+    
+    private static final class Entry {
+        
+        final int hash;
+        final byte[] bytes;
+        final String value;
+        boolean referenced;
+        
+        Entry(int hash, byte[] bytes, String value) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.value = value;
+        }
+    }
+}
\ No newline at end of file
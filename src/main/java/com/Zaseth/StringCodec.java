@@ -0,0 +1,403 @@
+package com.Zaseth;
+
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+String encoding straight on a byte array. UTF-8, Latin-1, ASCII and UTF-16 are measured exactly and encoded
+in place with a pure ASCII loop first, other charsets go through an encoder cached per thread. Each thread
+also keeps scratch arrays and buffers so nothing is allocated per string once they have grown. Output is
+byte for byte the same as String.getBytes
+ */
+final class StringCodec {
+    
+    static final int MAX_UTF_LENGTH = 65535;
+    
+    private static final Map<String, Charset> CHARSETS = new ConcurrentHashMap<String, Charset>();
+    
+    private static final ThreadLocal<StringCodec> LOCAL = new ThreadLocal<StringCodec>() {
+        @Override
+        protected StringCodec initialValue() {
+            return new StringCodec();
+        }
+    };
+    
+    private byte[] bytes = new byte[256];
+    private ByteBuffer byteBuffer = ByteBuffer.wrap(this.bytes);
+    private char[] chars = new char[256];
+    private CharBuffer charBuffer = CharBuffer.wrap(this.chars);
+    
+    private final Map<Charset, CharsetEncoder> encoders = new HashMap<Charset, CharsetEncoder>();
+    private final Map<Charset, CharsetDecoder> decoders = new HashMap<Charset, CharsetDecoder>();
+    
+    private StringCodec() {}
+    
+    static StringCodec local() {
+        return LOCAL.get();
+    }
+    
+    static Charset charset(String name) {
+        Charset charset = CHARSETS.get(name);
+        if (charset == null) {
+            charset = Charset.forName(name);
+            CHARSETS.put(name, charset);
+        }
+        return charset;
+    }
+    
+    /*
+    Modified UTF-8 functions, the format of writeUTF and readUTF
+     */
+    static int utfLength(String s) throws UTFDataFormatException {
+        int length = s.length();
+        int utfLength = length;
+        for (int i = 0; i < length; i++) {
+            char ch = s.charAt(i);
+            if (ch >= 0x80 || ch == 0) {
+                utfLength += ch >= 0x800 ? 2 : 1;
+            }
+        }
+        if (utfLength > MAX_UTF_LENGTH) {
+            throw new UTFDataFormatException();
+        }
+        return utfLength;
+    }
+    
+    @SuppressWarnings("deprecation")
+    static int putUTF(byte[] data, int index, String s, int utfLength) {
+        int length = s.length();
+        if (utfLength == length) { // Only 1 to 0x7f, a compact string copies its bytes as is
+            s.getBytes(0, length, data, index);
+            return index + length;
+        }
+        int i = 0;
+        for (; i < length; i++) { // ASCII run, one store per char
+            char ch = s.charAt(i);
+            if (ch >= 0x80 || ch == 0) {
+                break;
+            }
+            data[index + i] = (byte) ch;
+        }
+        index += i;
+        for (; i < length; i++) {
+            char ch = s.charAt(i);
+            if (ch < 0x80 && ch != 0) {
+                data[index++] = (byte) ch;
+            } else if (ch < 0x800) {
+                data[index++] = (byte) (0xc0 | ch >> 6);
+                data[index++] = (byte) (0x80 | ch & 0x3f);
+            } else {
+                data[index++] = (byte) (0xe0 | ch >> 12);
+                data[index++] = (byte) (0x80 | ch >> 6 & 0x3f);
+                data[index++] = (byte) (0x80 | ch & 0x3f);
+            }
+        }
+        return index;
+    }
+    
+    static boolean isAscii(byte[] data, int index, int length) {
+        for (int i = index, end = index + length; i < end; i++) {
+            if (data[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    static String getUTF(byte[] data, int index, int utfLength) throws UTFDataFormatException {
+        if (isAscii(data, index, utfLength)) {
+            return new String(data, index, utfLength, StandardCharsets.ISO_8859_1); // Copied as is into a compact string
+        }
+        StringCodec codec = local();
+        char[] chars = codec.chars(utfLength);
+        return new String(chars, 0, getUTF(data, index, utfLength, chars, 0));
+    }
+    
+    static void getUTF(byte[] data, int index, int utfLength, StringBuilder out) throws UTFDataFormatException {
+        StringCodec codec = local();
+        char[] chars = codec.chars(utfLength);
+        out.append(chars, 0, getUTF(data, index, utfLength, chars, 0));
+    }
+    
+    static int getUTF(byte[] data, int index, int utfLength, char[] chars, int offset) throws UTFDataFormatException {
+        int end = index + utfLength;
+        int n = offset;
+        while (index < end && data[index] >= 0) {
+            chars[n++] = (char) data[index++];
+        }
+        while (index < end) {
+            int a = data[index++] & 0xff;
+            if (a < 0x80) {
+                chars[n++] = (char) a;
+            } else if ((a & 0xe0) == 0xc0) {
+                if (index >= end) {
+                    throw new UTFDataFormatException();
+                }
+                int b = data[index++];
+                if ((b & 0xc0) != 0x80) {
+                    throw new UTFDataFormatException();
+                }
+                chars[n++] = (char) ((a & 0x1f) << 6 | b & 0x3f);
+            } else if ((a & 0xf0) == 0xe0) {
+                if (end - index < 2) {
+                    throw new UTFDataFormatException();
+                }
+                int b = data[index++];
+                int c = data[index++];
+                if ((b & 0xc0) != 0x80 || (c & 0xc0) != 0x80) {
+                    throw new UTFDataFormatException();
+                }
+                chars[n++] = (char) ((a & 0x0f) << 12 | (b & 0x3f) << 6 | c & 0x3f);
+            } else {
+                throw new UTFDataFormatException();
+            }
+        }
+        return n - offset;
+    }
+    
+    /*
+    Charset functions, the lengths are exact or -1 for charsets without an in place encoder
+     */
+    static int encodedLength(String s, Charset charset) {
+        if (charset == StandardCharsets.UTF_8) {
+            return utf8Length(s);
+        } else if (charset == StandardCharsets.ISO_8859_1 || charset == StandardCharsets.US_ASCII) {
+            return s.length() - surrogatePairs(s);
+        } else if (charset == StandardCharsets.UTF_16BE || charset == StandardCharsets.UTF_16LE) {
+            return s.length() << 1;
+        }
+        return -1;
+    }
+    
+    static int encode(String s, Charset charset, byte[] data, int index) {
+        if (charset == StandardCharsets.UTF_8) {
+            return putUtf8(data, index, s);
+        } else if (charset == StandardCharsets.ISO_8859_1) {
+            return putSingleByte(data, index, s, 0xff);
+        } else if (charset == StandardCharsets.US_ASCII) {
+            return putSingleByte(data, index, s, 0x7f);
+        } else if (charset == StandardCharsets.UTF_16BE) {
+            return putUtf16(data, index, s, true);
+        } else if (charset == StandardCharsets.UTF_16LE) {
+            return putUtf16(data, index, s, false);
+        }
+        throw new IllegalArgumentException("No in place encoder for " + charset);
+    }
+    
+    private static int utf8Length(String s) {
+        int length = s.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char ch = s.charAt(i);
+            if (ch < 0x80) {
+                continue;
+            }
+            if (ch < 0x800) {
+                utf8Length++;
+            } else if (!Character.isSurrogate(ch)) {
+                utf8Length += 2;
+            } else if (isPair(s, i)) {
+                utf8Length += 2; // 4 bytes for 2 chars
+                i++;
+            } // A lone surrogate becomes a single '?'
+        }
+        return utf8Length;
+    }
+    
+    private static int surrogatePairs(String s) {
+        int pairs = 0;
+        for (int i = 0, length = s.length(); i < length; i++) {
+            if (Character.isHighSurrogate(s.charAt(i)) && isPair(s, i)) {
+                pairs++;
+                i++;
+            }
+        }
+        return pairs;
+    }
+    
+    private static boolean isPair(String s, int i) {
+        return Character.isHighSurrogate(s.charAt(i)) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1));
+    }
+    
+    private static int putUtf8(byte[] data, int index, String s) {
+        int length = s.length();
+        int i = 0;
+        for (; i < length; i++) {
+            char ch = s.charAt(i);
+            if (ch >= 0x80) {
+                break;
+            }
+            data[index + i] = (byte) ch;
+        }
+        index += i;
+        for (; i < length; i++) {
+            char ch = s.charAt(i);
+            if (ch < 0x80) {
+                data[index++] = (byte) ch;
+            } else if (ch < 0x800) {
+                data[index++] = (byte) (0xc0 | ch >> 6);
+                data[index++] = (byte) (0x80 | ch & 0x3f);
+            } else if (!Character.isSurrogate(ch)) {
+                data[index++] = (byte) (0xe0 | ch >> 12);
+                data[index++] = (byte) (0x80 | ch >> 6 & 0x3f);
+                data[index++] = (byte) (0x80 | ch & 0x3f);
+            } else if (isPair(s, i)) {
+                int cp = Character.toCodePoint(ch, s.charAt(++i));
+                data[index++] = (byte) (0xf0 | cp >> 18);
+                data[index++] = (byte) (0x80 | cp >> 12 & 0x3f);
+                data[index++] = (byte) (0x80 | cp >> 6 & 0x3f);
+                data[index++] = (byte) (0x80 | cp & 0x3f);
+            } else {
+                data[index++] = '?';
+            }
+        }
+        return index;
+    }
+    
+    private static int putSingleByte(byte[] data, int index, String s, int max) {
+        for (int i = 0, length = s.length(); i < length; i++) {
+            char ch = s.charAt(i);
+            if (ch <= max) {
+                data[index++] = (byte) ch;
+            } else {
+                if (isPair(s, i)) {
+                    i++;
+                }
+                data[index++] = '?';
+            }
+        }
+        return index;
+    }
+    
+    private static int putUtf16(byte[] data, int index, String s, boolean bigEndian) {
+        for (int i = 0, length = s.length(); i < length; i++) {
+            char ch = s.charAt(i);
+            if (Character.isSurrogate(ch)) {
+                if (isPair(s, i)) {
+                    ByteViews.putShort(data, index, ch, bigEndian);
+                    index += 2;
+                    ch = s.charAt(++i);
+                } else {
+                    ch = '\ufffd'; // The replacement of the UTF-16 encoders
+                }
+            }
+            ByteViews.putShort(data, index, ch, bigEndian);
+            index += 2;
+        }
+        return index;
+    }
+    
+    /*
+    Scratch functions, the results are only valid until the next call on the same thread
+     */
+    byte[] bytes() {
+        return this.bytes;
+    }
+    
+    char[] chars(int length) {
+        if (this.chars.length < length) {
+            this.chars = new char[Math.max(length, this.chars.length << 1)];
+            this.charBuffer = CharBuffer.wrap(this.chars);
+        }
+        return this.chars;
+    }
+    
+    byte[] bytes(int length) {
+        if (this.bytes.length < length) {
+            this.bytes = new byte[Math.max(length, this.bytes.length << 1)];
+            this.byteBuffer = ByteBuffer.wrap(this.bytes);
+        }
+        return this.bytes;
+    }
+    
+    /*
+    Encodes s into bytes(), returns the number of bytes
+     */
+    int encode(String s, Charset charset) {
+        int length = encodedLength(s, charset);
+        if (length >= 0) {
+            encode(s, charset, this.bytes(length), 0);
+            return length;
+        }
+        int n = s.length();
+        s.getChars(0, n, this.chars(n), 0);
+        CharBuffer in = this.charBuffer;
+        in.clear().limit(n);
+        CharsetEncoder encoder = this.encoder(charset);
+        this.bytes((int) Math.min(Integer.MAX_VALUE - 8, (long) Math.ceil(encoder.averageBytesPerChar() * n) + 8));
+        ByteBuffer out = this.byteBuffer;
+        out.clear();
+        CoderResult result = encoder.encode(in, out, true);
+        while (result.isOverflow()) {
+            out = this.growBytes(out);
+            result = encoder.encode(in, out, true);
+        }
+        result = encoder.flush(out);
+        while (result.isOverflow()) {
+            out = this.growBytes(out);
+            result = encoder.flush(out);
+        }
+        return out.position();
+    }
+    
+    /*
+    Decodes the remaining bytes of in and appends them to out
+     */
+    void decode(ByteBuffer in, Charset charset, StringBuilder out) {
+        CharsetDecoder decoder = this.decoder(charset);
+        CharBuffer chars = this.charBuffer;
+        chars.clear();
+        CoderResult result;
+        do {
+            result = decoder.decode(in, chars, true);
+            drain(chars, out);
+        } while (result.isOverflow());
+        do {
+            result = decoder.flush(chars);
+            drain(chars, out);
+        } while (result.isOverflow());
+    }
+    
+    private static void drain(CharBuffer chars, StringBuilder out) {
+        out.append(chars.array(), 0, chars.position());
+        chars.clear();
+    }
+    
+    private ByteBuffer growBytes(ByteBuffer out) {
+        int position = out.position();
+        byte[] grown = new byte[Math.max(this.bytes.length << 1, 16)];
+        System.arraycopy(this.bytes, 0, grown, 0, position);
+        this.bytes = grown;
+        this.byteBuffer = ByteBuffer.wrap(grown);
+        this.byteBuffer.position(position);
+        return this.byteBuffer;
+    }
+    
+    private CharsetEncoder encoder(Charset charset) {
+        CharsetEncoder encoder = this.encoders.get(charset);
+        if (encoder == null) {
+            encoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.encoders.put(charset, encoder);
+        }
+        return encoder.reset();
+    }
+    
+    private CharsetDecoder decoder(Charset charset) {
+        CharsetDecoder decoder = this.decoders.get(charset);
+        if (decoder == null) {
+            decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.decoders.put(charset, decoder);
+        }
+        return decoder.reset();
+    }
+}
\ No newline at end of file
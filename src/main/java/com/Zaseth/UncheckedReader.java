@@ -0,0 +1,179 @@
+package com.Zaseth;
+
+/*
+Read functions on a ByteArrayJava without the per call bounds checks. Check a batch once with require,
+then read it here, every value must lie inside the required bytes. Reading past the end of a slice isn't
+caught, reading past the backing array only fails on the array bounds. Get it from
+ByteArrayJava.uncheckedReader(), it shares the position
+ */
+public final class UncheckedReader {
+    
+    private final ByteArrayJava buffer;
+    
+    UncheckedReader(ByteArrayJava buffer) {
+        this.buffer = buffer;
+    }
+    
+    /*
+    Set and get functions
+     */
+    public UncheckedReader require(int length) {
+        this.buffer.checkReadable(length);
+        return this;
+    }
+    
+    public int getPosition() {
+        return this.buffer.getPosition();
+    }
+    
+    /*
+    Reading int and uint functions
+     */
+    public int readInt8() {
+        ByteArrayJava buffer = this.buffer;
+        return buffer.data[buffer.position++];
+    }
+    
+    public int readUInt8() {
+        return this.readInt8() & 0xff;
+    }
+    
+    public int readInt16() {
+        ByteArrayJava buffer = this.buffer;
+        int v = ByteViews.getShort(buffer.data, buffer.position, buffer.endian);
+        buffer.position += 2;
+        return v;
+    }
+    
+    public int readUInt16() {
+        return this.readInt16() & 0xffff;
+    }
+    
+    public int readInt24() {
+        ByteArrayJava buffer = this.buffer;
+        int v = ByteViews.getInt24(buffer.data, buffer.position, buffer.endian);
+        buffer.position += 3;
+        return v;
+    }
+    
+    public int readUInt24() {
+        return this.readInt24() & 0xffffff;
+    }
+    
+    public int readInt32() {
+        ByteArrayJava buffer = this.buffer;
+        int v = ByteViews.getInt(buffer.data, buffer.position, buffer.endian);
+        buffer.position += 4;
+        return v;
+    }
+    
+    public int readUInt32() {
+        return this.readInt32();
+    }
+    
+    public long readInt40() {
+        ByteArrayJava buffer = this.buffer;
+        long v = ByteViews.getInt40(buffer.data, buffer.position, buffer.endian);
+        buffer.position += 5;
+        return v;
+    }
+    
+    public long readInt48() {
+        ByteArrayJava buffer = this.buffer;
+        long v = ByteViews.getInt48(buffer.data, buffer.position, buffer.endian);
+        buffer.position += 6;
+        return v;
+    }
+    
+    public long readInt56() {
+        ByteArrayJava buffer = this.buffer;
+        long v = ByteViews.getInt56(buffer.data, buffer.position, buffer.endian);
+        buffer.position += 7;
+        return v;
+    }
+    
+    public long readInt64() {
+        ByteArrayJava buffer = this.buffer;
+        long v = ByteViews.getLong(buffer.data, buffer.position, buffer.endian);
+        buffer.position += 8;
+        return v;
+    }
+    
+    public float readFloat() {
+        return Float.intBitsToFloat(this.readInt32());
+    }
+    
+    public double readDouble() {
+        return Double.longBitsToDouble(this.readInt64());
+    }
+    
+    public boolean readBoolean() {
+        return this.readInt8() == 1;
+    }
+    
+    /*
+    Reading varint and varuint functions, a varint counts as its longest encoding for require
+     */
+    public int readVarInt32() {
+        ByteArrayJava buffer = this.buffer;
+        byte[] data = buffer.data;
+        int index = buffer.position;
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = data[index++];
+            result |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                buffer.position = index;
+                return result;
+            }
+        }
+        // Discard upper 32 bits
+        for (int i = 0; i < 5; i++) {
+            if (data[index++] >= 0) {
+                break;
+            }
+        }
+        buffer.position = index;
+        return result;
+    }
+    
+    public long readVarInt64() {
+        ByteArrayJava buffer = this.buffer;
+        byte[] data = buffer.data;
+        int index = buffer.position;
+        if (data.length - index >= 10) {
+            int length = VarInts.length64(data, index);
+            buffer.position = index + length;
+            return VarInts.getVarInt64(data, index, length);
+        }
+        long result = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = data[index++];
+            result |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        buffer.position = index;
+        return result;
+    }
+    
+    public int readVarUInt32() {
+        int value = this.readVarInt32();
+        return value >>> 1 ^ -(value & 1);
+    }
+    
+    public long readVarUInt64() {
+        long value = this.readVarInt64();
+        return value >>> 1 ^ -(value & 1L);
+    }
+    
+    /*
+    Extra read functions
+     */
+    public void readBytes(byte bytes[], int offset, int length) {
+        ByteArrayJava buffer = this.buffer;
+        System.arraycopy(buffer.data, buffer.position, bytes, offset, length);
+        buffer.position += length;
+    }
+}
\ No newline at end of file
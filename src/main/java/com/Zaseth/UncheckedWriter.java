@@ -0,0 +1,124 @@
+package com.Zaseth;
+
+/*
+Write functions on a ByteArrayJava without the per call range and capacity checks. Reserve room for a
+batch once with ensureWritable, then write it here, every value must fit inside the reserved bytes. Values
+are truncated to their width instead of rejected and nothing grows the buffer, writing past its capacity
+only fails on the array bounds. Get it from ByteArrayJava.uncheckedWriter(), it shares the position
+ */
+public final class UncheckedWriter {
+    
+    private final ByteArrayJava buffer;
+    
+    UncheckedWriter(ByteArrayJava buffer) {
+        this.buffer = buffer;
+    }
+    
+    /*
+    Set and get functions
+     */
+    public UncheckedWriter ensureWritable(int length) {
+        this.buffer.ensureWritable(length);
+        return this;
+    }
+    
+    public int getPosition() {
+        return this.buffer.getPosition();
+    }
+    
+    /*
+    Writing int functions
+     */
+    public void writeInt8(int v) {
+        ByteArrayJava buffer = this.buffer;
+        buffer.data[buffer.position++] = (byte) v;
+    }
+    
+    public void writeInt16(int v) {
+        ByteArrayJava buffer = this.buffer;
+        ByteViews.putShort(buffer.data, buffer.position, v, buffer.endian);
+        buffer.position += 2;
+    }
+    
+    public void writeUInt16(int v) {
+        this.writeInt16(v);
+    }
+    
+    public void writeInt24(int v) {
+        ByteArrayJava buffer = this.buffer;
+        ByteViews.putInt24(buffer.data, buffer.position, v, buffer.endian);
+        buffer.position += 3;
+    }
+    
+    public void writeInt32(int v) {
+        ByteArrayJava buffer = this.buffer;
+        ByteViews.putInt(buffer.data, buffer.position, v, buffer.endian);
+        buffer.position += 4;
+    }
+    
+    public void writeInt40(long v) {
+        ByteArrayJava buffer = this.buffer;
+        ByteViews.putInt40(buffer.data, buffer.position, v, buffer.endian);
+        buffer.position += 5;
+    }
+    
+    public void writeInt48(long v) {
+        ByteArrayJava buffer = this.buffer;
+        ByteViews.putInt48(buffer.data, buffer.position, v, buffer.endian);
+        buffer.position += 6;
+    }
+    
+    public void writeInt56(long v) {
+        ByteArrayJava buffer = this.buffer;
+        ByteViews.putInt56(buffer.data, buffer.position, v, buffer.endian);
+        buffer.position += 7;
+    }
+    
+    public void writeInt64(long v) {
+        ByteArrayJava buffer = this.buffer;
+        ByteViews.putLong(buffer.data, buffer.position, v, buffer.endian);
+        buffer.position += 8;
+    }
+    
+    public void writeFloat(float v) {
+        this.writeInt32(Float.floatToIntBits(v));
+    }
+    
+    public void writeDouble(double v) {
+        this.writeInt64(Double.doubleToLongBits(v));
+    }
+    
+    public void writeBoolean(boolean v) {
+        this.writeInt8(v ? 1 : 0);
+    }
+    
+    /*
+    Writing varint and varuint functions
+     */
+    public void writeVarInt32(int value) {
+        ByteArrayJava buffer = this.buffer;
+        buffer.position = VarInts.putVarInt32(buffer.data, buffer.position, value);
+    }
+    
+    public void writeVarInt64(long value) {
+        ByteArrayJava buffer = this.buffer;
+        buffer.position = VarInts.putVarInt64(buffer.data, buffer.position, value);
+    }
+    
+    public void writeVarUInt32(int value) {
+        this.writeVarInt32(value << 1 ^ value >> 31);
+    }
+    
+    public void writeVarUInt64(long value) {
+        this.writeVarInt64(value << 1 ^ value >> 63);
+    }
+    
+    /*
+    Extra write functions
+     */
+    public void writeBytes(byte bytes[], int offset, int length) {
+        ByteArrayJava buffer = this.buffer;
+        System.arraycopy(bytes, offset, buffer.data, buffer.position, length);
+        buffer.position += length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.Zaseth;
+
+/*
+Varint encoding straight on a byte array. Callers check the capacity once per value, the encoders are
+unrolled and the 64-bit decoder loads 8 bytes at once and finds the terminating byte from its clear high bit
+ */
+final class VarInts {
+    
+    private static final long CONTINUATION_BITS = 0x8080808080808080L;
+    
+    private VarInts() {}
+    
+    /*
+    Size functions
+     */
+    static int sizeOf32(int v) {
+        return (31 - Integer.numberOfLeadingZeros(v)) / 7 + 1;
+    }
+    
+    static int sizeOf64(long v) {
+        return (63 - Long.numberOfLeadingZeros(v)) / 7 + 1;
+    }
+    
+    /*
+    Writing functions, return the index after the last byte written
+     */
+    static int putVarInt32(byte[] data, int index, int v) {
+        if ((v & ~0x7f) == 0) {
+            data[index] = (byte) v;
+            return index + 1;
+        }
+        data[index] = (byte) (v | 0x80);
+        if ((v & ~0x3fff) == 0) {
+            data[index + 1] = (byte) (v >>> 7);
+            return index + 2;
+        }
+        data[index + 1] = (byte) (v >>> 7 | 0x80);
+        if ((v & ~0x1fffff) == 0) {
+            data[index + 2] = (byte) (v >>> 14);
+            return index + 3;
+        }
+        data[index + 2] = (byte) (v >>> 14 | 0x80);
+        if ((v & ~0xfffffff) == 0) {
+            data[index + 3] = (byte) (v >>> 21);
+            return index + 4;
+        }
+        data[index + 3] = (byte) (v >>> 21 | 0x80);
+        data[index + 4] = (byte) (v >>> 28);
+        return index + 5;
+    }
+    
+    static int putVarInt64(byte[] data, int index, long v) {
+        if ((v & ~0xfffffffL) == 0) {
+            return putVarInt32(data, index, (int) v);
+        }
+        putGroups(data, index, v);
+        v >>>= 28;
+        if ((v & ~0xfffffffL) == 0) {
+            return putVarInt32(data, index + 4, (int) v);
+        }
+        putGroups(data, index + 4, v);
+        return putVarInt32(data, index + 8, (int) (v >>> 28)); // At most 8 bits left
+    }
+    
+    private static void putGroups(byte[] data, int index, long v) {
+        data[index] = (byte) (v | 0x80);
+        data[index + 1] = (byte) (v >>> 7 | 0x80);
+        data[index + 2] = (byte) (v >>> 14 | 0x80);
+        data[index + 3] = (byte) (v >>> 21 | 0x80);
+    }
+    
+    /*
+    Reading functions, both need 10 readable bytes
+     */
+    static int length64(byte[] data, int index) {
+        int length = length(ByteViews.getLong(data, index, false));
+        if (length <= 8) {
+            return length;
+        }
+        return data[index + 8] >= 0 ? 9 : 10;
+    }
+    
+    static long getVarInt64(byte[] data, int index, int length) {
+        long word = ByteViews.getLong(data, index, false);
+        if (length <= 8) {
+            return compact(word, length);
+        }
+        long result = compact(word, 8) | (data[index + 8] & 0x7fL) << 56;
+        if (length == 10) {
+            result |= (long) data[index + 9] << 63;
+        }
+        return result;
+    }
+    
+    private static int length(long word) {
+        return (Long.numberOfTrailingZeros(~word & CONTINUATION_BITS) >>> 3) + 1; // 9 when all 8 continue
+    }
+    
+    private static long compact(long word, int length) {
+        long x = word & (-1L >>> (64 - (length << 3))) & 0x7f7f7f7f7f7f7f7fL;
+        x = x & 0x007f007f007f007fL | (x & 0x7f007f007f007f00L) >>> 1;
+        x = x & 0x00003fff00003fffL | (x & 0x3fff00003fff0000L) >>> 2;
+        return x & 0x000000000fffffffL | (x & 0x0fffffff00000000L) >>> 4;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,199 @@
+package com.Zaseth;
+
+/*
+Read and write bodies of ViewByteArrayJava, BigEndianByteArray and LittleEndianByteArray. The byte order
+is a parameter instead of a virtual call, the fixed order classes pass a constant so every body inlined into
+them keeps a single view handle with no endian check left
+ */
+final class ViewAccess {
+    
+    private ViewAccess() {}
+    
+    /*
+    Writing int and uint functions
+     */
+    static void writeInt16(ByteArrayJava buffer, int v, boolean bigEndian) {
+        buffer.checkInt(v, buffer.position, 2, 0x7fff, -0x8000);
+        ByteViews.putShort(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 2;
+    }
+    
+    static void writeInt24(ByteArrayJava buffer, int v, boolean bigEndian) {
+        buffer.checkInt(v, buffer.position, 3, 0x7fffff, -0x800000);
+        ByteViews.putInt24(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 3;
+    }
+    
+    static void writeInt32(ByteArrayJava buffer, int v, boolean bigEndian) {
+        buffer.checkInt(v, buffer.position, 4, 0x7fffffff, -0x80000000);
+        ByteViews.putInt(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 4;
+    }
+    
+    static void writeInt40(ByteArrayJava buffer, long v, boolean bigEndian) {
+        buffer.ensureWritable(5);
+        ByteViews.putInt40(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 5;
+    }
+    
+    static void writeInt48(ByteArrayJava buffer, long v, boolean bigEndian) {
+        buffer.ensureWritable(6);
+        ByteViews.putInt48(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 6;
+    }
+    
+    static void writeInt56(ByteArrayJava buffer, long v, boolean bigEndian) {
+        buffer.ensureWritable(7);
+        ByteViews.putInt56(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 7;
+    }
+    
+    static void writeInt64(ByteArrayJava buffer, long v, boolean bigEndian) {
+        buffer.ensureWritable(8);
+        ByteViews.putLong(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 8;
+    }
+    
+    static void writeUInt16(ByteArrayJava buffer, int v, boolean bigEndian) {
+        buffer.checkInt(v, buffer.position, 2, 0xffff, 0);
+        ByteViews.putShort(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 2;
+    }
+    
+    static void writeUInt24(ByteArrayJava buffer, int v, boolean bigEndian) {
+        buffer.checkInt(v, buffer.position, 3, 0xffffff, 0);
+        ByteViews.putInt24(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 3;
+    }
+    
+    static void writeUInt32(ByteArrayJava buffer, int v, boolean bigEndian) {
+        buffer.checkInt(v, buffer.position, 4, Integer.MAX_VALUE, Integer.MIN_VALUE);
+        ByteViews.putInt(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 4;
+    }
+    
+    static void writeUInt40(ByteArrayJava buffer, long v, boolean bigEndian) {
+        buffer.ensureWritable(5);
+        ByteViews.putInt40(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 5;
+    }
+    
+    static void writeUInt48(ByteArrayJava buffer, long v, boolean bigEndian) {
+        buffer.ensureWritable(6);
+        ByteViews.putInt48(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 6;
+    }
+    
+    static void writeUInt56(ByteArrayJava buffer, long v, boolean bigEndian) {
+        buffer.ensureWritable(7);
+        ByteViews.putInt56(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 7;
+    }
+    
+    static void writeUInt64(ByteArrayJava buffer, long v, boolean bigEndian) {
+        buffer.ensureWritable(8);
+        ByteViews.putLong(buffer.data, buffer.position, v, bigEndian);
+        buffer.position += 8;
+    }
+    
+    /*
+    Read int and uint functions
+     */
+    static int readInt16(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(2);
+        int v = ByteViews.getShort(buffer.data, buffer.position, bigEndian);
+        buffer.position += 2;
+        return v;
+    }
+    
+    static int readInt24(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(3);
+        int v = ByteViews.getInt24(buffer.data, buffer.position, bigEndian);
+        buffer.position += 3;
+        return v;
+    }
+    
+    static int readInt32(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(4);
+        int v = ByteViews.getInt(buffer.data, buffer.position, bigEndian);
+        buffer.position += 4;
+        return v;
+    }
+    
+    static long readInt40(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(5);
+        long v = ByteViews.getInt40(buffer.data, buffer.position, bigEndian);
+        buffer.position += 5;
+        return v;
+    }
+    
+    static long readInt48(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(6);
+        long v = ByteViews.getInt48(buffer.data, buffer.position, bigEndian);
+        buffer.position += 6;
+        return v;
+    }
+    
+    static long readInt56(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(7);
+        long v = ByteViews.getInt56(buffer.data, buffer.position, bigEndian);
+        buffer.position += 7;
+        return v;
+    }
+    
+    static long readInt64(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(8);
+        long v = ByteViews.getLong(buffer.data, buffer.position, bigEndian);
+        buffer.position += 8;
+        return v;
+    }
+    
+    static int readUInt16(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(2);
+        int v = ByteViews.getShort(buffer.data, buffer.position, bigEndian) & 0xffff;
+        buffer.position += 2;
+        return v;
+    }
+    
+    static int readUInt24(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(3);
+        int v = ByteViews.getUInt24(buffer.data, buffer.position, bigEndian);
+        buffer.position += 3;
+        return v;
+    }
+    
+    static int readUInt32(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(4);
+        int v = ByteViews.getInt(buffer.data, buffer.position, bigEndian);
+        buffer.position += 4;
+        return v;
+    }
+    
+    static long readUInt40(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(5);
+        long v = ByteViews.getUInt40(buffer.data, buffer.position, bigEndian);
+        buffer.position += 5;
+        return v;
+    }
+    
+    static long readUInt48(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(6);
+        long v = ByteViews.getUInt48(buffer.data, buffer.position, bigEndian);
+        buffer.position += 6;
+        return v;
+    }
+    
+    static long readUInt56(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(7);
+        long v = ByteViews.getUInt56(buffer.data, buffer.position, bigEndian);
+        buffer.position += 7;
+        return v;
+    }
+    
+    static long readUInt64(ByteArrayJava buffer, boolean bigEndian) {
+        buffer.checkReadable(8);
+        long v = ByteViews.getLong(buffer.data, buffer.position, bigEndian);
+        buffer.position += 8;
+        return v;
+    }
+}
\ No newline at end of file
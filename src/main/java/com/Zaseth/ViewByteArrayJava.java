@@ -0,0 +1,175 @@
+package com.Zaseth;
+
+/*
+ByteArrayJava using the byte array view handles of ByteViews: every multi-byte value is written and read
+with at most three loads or stores instead of one shift per byte. The wire format is identical, pick this
+class instead of ByteArrayJava at construction time to use it
+ */
+public class ViewByteArrayJava extends ByteArrayJava {
+    
+    /*
+    Constructor
+     */
+    public ViewByteArrayJava(ByteArrayJava buff) {
+        super(buff);
+    }
+    
+    public ViewByteArrayJava(int length) {
+        super(length);
+    }
+    
+    public ViewByteArrayJava() {
+        super();
+    }
+    
+    @Override
+    ByteArrayJava newView() {
+        return new ViewByteArrayJava(this);
+    }
+    
+    /*
+    Writing int and uint functions
+     */
+    @Override
+    public void writeInt16(int v) {
+        ViewAccess.writeInt16(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeInt24(int v) {
+        ViewAccess.writeInt24(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeInt32(int v) {
+        ViewAccess.writeInt32(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeInt40(long v) {
+        ViewAccess.writeInt40(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeInt48(long v) {
+        ViewAccess.writeInt48(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeInt56(long v) {
+        ViewAccess.writeInt56(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeInt64(long v) {
+        ViewAccess.writeInt64(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeUInt16(int v) {
+        ViewAccess.writeUInt16(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeUInt24(int v) {
+        ViewAccess.writeUInt24(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeUInt32(int v) {
+        ViewAccess.writeUInt32(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeUInt40(long v) {
+        ViewAccess.writeUInt40(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeUInt48(long v) {
+        ViewAccess.writeUInt48(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeUInt56(long v) {
+        ViewAccess.writeUInt56(this, v, this.endian);
+    }
+    
+    @Override
+    public void writeUInt64(long v) {
+        ViewAccess.writeUInt64(this, v, this.endian);
+    }
+    
+    /*
+    Read int and uint functions
+     */
+    @Override
+    public int readInt16() {
+        return ViewAccess.readInt16(this, this.endian);
+    }
+    
+    @Override
+    public int readInt24() {
+        return ViewAccess.readInt24(this, this.endian);
+    }
+    
+    @Override
+    public int readInt32() {
+        return ViewAccess.readInt32(this, this.endian);
+    }
+    
+    @Override
+    public long readInt40() {
+        return ViewAccess.readInt40(this, this.endian);
+    }
+    
+    @Override
+    public long readInt48() {
+        return ViewAccess.readInt48(this, this.endian);
+    }
+    
+    @Override
+    public long readInt56() {
+        return ViewAccess.readInt56(this, this.endian);
+    }
+    
+    @Override
+    public long readInt64() {
+        return ViewAccess.readInt64(this, this.endian);
+    }
+    
+    @Override
+    public int readUInt16() {
+        return ViewAccess.readUInt16(this, this.endian);
+    }
+    
+    @Override
+    public int readUInt24() {
+        return ViewAccess.readUInt24(this, this.endian);
+    }
+    
+    @Override
+    public int readUInt32() {
+        return ViewAccess.readUInt32(this, this.endian);
+    }
+    
+    @Override
+    public long readUInt40() {
+        return ViewAccess.readUInt40(this, this.endian);
+    }
+    
+    @Override
+    public long readUInt48() {
+        return ViewAccess.readUInt48(this, this.endian);
+    }
+    
+    @Override
+    public long readUInt56() {
+        return ViewAccess.readUInt56(this, this.endian);
+    }
+    
+    @Override
+    public long readUInt64() {
+        return ViewAccess.readUInt64(this, this.endian);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,203 @@
+package com.Zaseth;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.Checksum;
+
+/*
+XXH64, a fast non cryptographic 64 bit hash over 32 byte stripes. Use hash() for a range at once, or feed
+an instance with update() as the bytes arrive, both give the same value. Direct ByteBuffers are read in
+place instead of being copied to the heap
+ */
+public final class XxHash64 implements Checksum {
+    
+    private static final long P1 = 0x9E3779B185EBCA87L;
+    private static final long P2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long P3 = 0x165667B19E3779F9L;
+    private static final long P4 = 0x85EBCA77C2B2AE63L;
+    private static final long P5 = 0x27D4EB2F165667C5L;
+    
+    private final long seed;
+    private final byte[] stripe = new byte[32];
+    private int buffered;
+    private long length;
+    
+    private long v1;
+    private long v2;
+    private long v3;
+    private long v4;
+    
+    /*
+    Constructor
+     */
+    public XxHash64() {
+        this(0);
+    }
+    
+    public XxHash64(long seed) {
+        this.seed = seed;
+        this.reset();
+    }
+    
+    /*
+    Checksum functions
+     */
+    @Override
+    public void update(int b) {
+        this.stripe[this.buffered++] = (byte) b;
+        this.length++;
+        if (this.buffered == 32) {
+            this.stripe(this.stripe, 0);
+            this.buffered = 0;
+        }
+    }
+    
+    @Override
+    public void update(byte[] b, int off, int len) {
+        if (off < 0 || len < 0 || off > b.length - len) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        this.length += len;
+        if (this.buffered > 0) {
+            int n = Math.min(len, 32 - this.buffered);
+            System.arraycopy(b, off, this.stripe, this.buffered, n);
+            this.buffered += n;
+            off += n;
+            len -= n;
+            if (this.buffered < 32) {
+                return;
+            }
+            this.stripe(this.stripe, 0);
+            this.buffered = 0;
+        }
+        int end = off + len;
+        for (; off <= end - 32; off += 32) {
+            this.stripe(b, off);
+        }
+        System.arraycopy(b, off, this.stripe, 0, end - off);
+        this.buffered = end - off;
+    }
+    
+    @Override
+    public void update(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            this.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+        ByteBuffer in = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        while (this.buffered > 0 && in.hasRemaining()) {
+            this.update(in.get());
+        }
+        int end = in.limit();
+        int index = in.position();
+        for (; index <= end - 32; index += 32) {
+            this.v1 = round(this.v1, in.getLong(index));
+            this.v2 = round(this.v2, in.getLong(index + 8));
+            this.v3 = round(this.v3, in.getLong(index + 16));
+            this.v4 = round(this.v4, in.getLong(index + 24));
+            this.length += 32;
+        }
+        for (; index < end; index++) {
+            this.update(in.get(index));
+        }
+        buffer.position(end);
+    }
+    
+    @Override
+    public long getValue() {
+        long h;
+        if (this.length >= 32) {
+            h = converge(this.v1, this.v2, this.v3, this.v4);
+        } else {
+            h = this.seed + P5;
+        }
+        return tail(h + this.length, this.stripe, 0, this.buffered);
+    }
+    
+    @Override
+    public void reset() {
+        this.v1 = this.seed + P1 + P2;
+        this.v2 = this.seed + P2;
+        this.v3 = this.seed;
+        this.v4 = this.seed - P1;
+        this.buffered = 0;
+        this.length = 0;
+    }
+    
+    /*
+    One shot functions
+     */
+    public static long hash(byte[] data, int offset, int length) {
+        return hash(data, offset, length, 0);
+    }
+    
+    public static long hash(byte[] data, int offset, int length, long seed) {
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + ((long) offset + length) + ") is outside of [0, " + data.length + ")");
+        }
+        int end = offset + length;
+        long h;
+        if (length >= 32) {
+            long v1 = seed + P1 + P2;
+            long v2 = seed + P2;
+            long v3 = seed;
+            long v4 = seed - P1;
+            for (; offset <= end - 32; offset += 32) {
+                v1 = round(v1, ByteViews.getLong(data, offset, false));
+                v2 = round(v2, ByteViews.getLong(data, offset + 8, false));
+                v3 = round(v3, ByteViews.getLong(data, offset + 16, false));
+                v4 = round(v4, ByteViews.getLong(data, offset + 24, false));
+            }
+            h = converge(v1, v2, v3, v4);
+        } else {
+            h = seed + P5;
+        }
+        return tail(h + length, data, offset, end - offset);
+    }
+    
+    /*
+    Help functions
+     */
+    private void stripe(byte[] data, int offset) {
+        this.v1 = round(this.v1, ByteViews.getLong(data, offset, false));
+        this.v2 = round(this.v2, ByteViews.getLong(data, offset + 8, false));
+        this.v3 = round(this.v3, ByteViews.getLong(data, offset + 16, false));
+        this.v4 = round(this.v4, ByteViews.getLong(data, offset + 24, false));
+    }
+    
+    private static long round(long acc, long input) {
+        return Long.rotateLeft(acc + input * P2, 31) * P1;
+    }
+    
+    private static long merge(long h, long v) {
+        return (h ^ round(0, v)) * P1 + P4;
+    }
+    
+    private static long converge(long v1, long v2, long v3, long v4) {
+        long h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+        h = merge(h, v1);
+        h = merge(h, v2);
+        h = merge(h, v3);
+        return merge(h, v4);
+    }
+    
+    private static long tail(long h, byte[] data, int offset, int length) {
+        int end = offset + length;
+        for (; offset <= end - 8; offset += 8) {
+            h = Long.rotateLeft(h ^ round(0, ByteViews.getLong(data, offset, false)), 27) * P1 + P4;
+        }
+        if (offset <= end - 4) {
+            h = Long.rotateLeft(h ^ (ByteViews.getInt(data, offset, false) & 0xffffffffL) * P1, 23) * P2 + P3;
+            offset += 4;
+        }
+        for (; offset < end; offset++) {
+            h = Long.rotateLeft(h ^ (data[offset] & 0xff) * P5, 11) * P1;
+        }
+        h ^= h >>> 33;
+        h *= P2;
+        h ^= h >>> 29;
+        h *= P3;
+        return h ^ h >>> 32;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.Zaseth;
+
+/*
+Bulk operations over byte and long arrays. This is the Java 17 version from META-INF/versions, it uses the
+vector API when the JVM runs with --add-modules jdk.incubator.vector and falls back to the scalar loops
+otherwise. Run with -Dcom.Zaseth.vector=false to keep the scalar loops with the module present
+ */
+final class BulkOps {
+    
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent() && !"false".equals(System.getProperty("com.Zaseth.vector"));
+    
+    private BulkOps() {}
+    
+    static int countZeros(byte[] data, int from, int to) {
+        return VECTORIZED ? VectorOps.countZeros(data, from, to) : ScalarOps.countZeros(data, from, to);
+    }
+    
+    static int indexOf(byte[] data, int from, int to, byte value) {
+        return VECTORIZED ? VectorOps.indexOf(data, from, to, value) : ScalarOps.indexOf(data, from, to, value);
+    }
+    
+    static void swap(byte[] data, int index, int length, int width) {
+        if (VECTORIZED) {
+            VectorOps.swap(data, index, length, width);
+        } else {
+            ScalarOps.swap(data, index, length, width);
+        }
+    }
+    
+    static int mismatch(byte[] a, int aIndex, byte[] b, int bIndex, int length) {
+        return VECTORIZED ? VectorOps.mismatch(a, aIndex, b, bIndex, length) : ScalarOps.mismatch(a, aIndex, b, bIndex, length);
+    }
+    
+    static void unpack(long[] words, int width, long min, long[] values, int offset, int length) {
+        if (VECTORIZED) {
+            VectorOps.unpack(words, width, min, values, offset, length);
+        } else {
+            ScalarOps.unpack(words, width, min, values, offset, 0, length);
+        }
+    }
+}
\ No newline at end of file
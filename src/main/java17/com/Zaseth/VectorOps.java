@@ -0,0 +1,101 @@
+package com.Zaseth;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/*
+Vector API versions of the bulk operations in BulkOps, on the widest species the CPU has. Every loop runs
+whole vectors and leaves the tail to ScalarOps
+ */
+final class VectorOps {
+    
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    
+    private static final VectorShuffle<Byte> SWAP_16 = swapShuffle(2);
+    private static final VectorShuffle<Byte> SWAP_32 = swapShuffle(4);
+    private static final VectorShuffle<Byte> SWAP_64 = swapShuffle(8);
+    
+    private static final LongVector LANES = LongVector.zero(LONGS).addIndex(1);
+    // The word each of the values in a ColumnCodec block starts in, per bit width
+    private static final int[][] WORDS = new int[65][];
+    
+    static {
+        for (int width = 1; width <= 64; width++) {
+            WORDS[width] = new int[ColumnCodec.BLOCK];
+            for (int i = 0; i < ColumnCodec.BLOCK; i++) {
+                WORDS[width][i] = i * width >>> 6;
+            }
+        }
+    }
+    
+    private VectorOps() {}
+    
+    private static VectorShuffle<Byte> swapShuffle(int width) {
+        int[] indexes = new int[BYTES.length()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i ^ width - 1;
+        }
+        return VectorShuffle.fromArray(BYTES, indexes, 0);
+    }
+    
+    static int countZeros(byte[] data, int from, int to) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + BYTES.loopBound(to - from); i < bound; i += BYTES.length()) {
+            count += ByteVector.fromArray(BYTES, data, i).eq((byte) 0).trueCount();
+        }
+        return count + ScalarOps.countZeros(data, i, to);
+    }
+    
+    static int indexOf(byte[] data, int from, int to, byte value) {
+        int i = from;
+        for (int bound = from + BYTES.loopBound(to - from); i < bound; i += BYTES.length()) {
+            VectorMask<Byte> found = ByteVector.fromArray(BYTES, data, i).eq(value);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return ScalarOps.indexOf(data, i, to, value);
+    }
+    
+    static void swap(byte[] data, int index, int length, int width) {
+        VectorShuffle<Byte> shuffle = width == 2 ? SWAP_16 : width == 4 ? SWAP_32 : SWAP_64;
+        int i = index;
+        // The vector length is a multiple of 8 so the tail still starts on a value
+        for (int bound = index + BYTES.loopBound(length); i < bound; i += BYTES.length()) {
+            ByteVector.fromArray(BYTES, data, i).rearrange(shuffle).intoArray(data, i);
+        }
+        ScalarOps.swap(data, i, index + length - i, width);
+    }
+    
+    static int mismatch(byte[] a, int aIndex, byte[] b, int bIndex, int length) {
+        int i = 0;
+        for (int bound = BYTES.loopBound(length); i < bound; i += BYTES.length()) {
+            VectorMask<Byte> differs = ByteVector.fromArray(BYTES, a, aIndex + i).compare(VectorOperators.NE, ByteVector.fromArray(BYTES, b, bIndex + i));
+            if (differs.anyTrue()) {
+                return i + differs.firstTrue();
+            }
+        }
+        int tail = ScalarOps.mismatch(a, aIndex + i, b, bIndex + i, length - i);
+        return tail < 0 ? -1 : i + tail;
+    }
+    
+    static void unpack(long[] words, int width, long min, long[] values, int offset, int length) {
+        int[] starts = WORDS[width];
+        long mask = -1L >>> 64 - width;
+        int i = 0;
+        // Gathers the word each value starts in and the one after, then shifts both like the scalar loop does
+        for (int bound = LONGS.loopBound(Math.min(length, starts.length)); i < bound; i += LONGS.length()) {
+            LongVector shifts = LANES.add(i).mul(width).and(63);
+            LongVector low = LongVector.fromArray(LONGS, words, 0, starts, i).lanewise(VectorOperators.LSHR, shifts);
+            LongVector high = LongVector.fromArray(LONGS, words, 1, starts, i).lanewise(VectorOperators.LSHL, 1).lanewise(VectorOperators.LSHL, shifts.neg().add(63));
+            low.or(high).and(mask).add(min).intoArray(values, offset + i);
+        }
+        ScalarOps.unpack(words, width, min, values, offset, i, length);
+    }
+}
\ No newline at end of file